@@ -27,6 +27,9 @@ CREATE TABLE IF NOT EXISTS users (
     full_name VARCHAR(100) NOT NULL,
     email VARCHAR(100) NOT NULL UNIQUE,
     role VARCHAR(20) NOT NULL,
+    -- 한도 확인용 비정규화 카운터 (반납되지 않은 대출 수, 대기 중인 예약 수)
+    active_loan_count INT NOT NULL DEFAULT 0,
+    active_reservation_count INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -78,14 +81,38 @@ CREATE TABLE IF NOT EXISTS reservations (
     FOREIGN KEY (book_id) REFERENCES books(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 배치 작업 체크포인트 테이블 (중단된 배치를 마지막으로 처리한 id 다음부터 재개)
+CREATE TABLE IF NOT EXISTS batch_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_date DATE NOT NULL,
+    last_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ID 생성기 노드 번호 임대 테이블 (실행 중인 인스턴스끼리 노드 번호가 겹치지 않도록 임대, 시각은 UTC)
+CREATE TABLE IF NOT EXISTS id_node_leases (
+    node_id INT PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    renewed_at DATETIME(3) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 인덱스 생성
 CREATE INDEX idx_users_username ON users(username);
 CREATE INDEX idx_books_title ON books(title);
 CREATE INDEX idx_books_author ON books(author);
 CREATE INDEX idx_books_category ON books(category);
-CREATE INDEX idx_loans_user_id ON loans(user_id);
+-- 사용자별 대출 이력 조회용 (전체 상태는 대출일 순, 상태 지정 시 상태별 대출일 순), 사용자 외래 키 인덱스도 겸함
+CREATE INDEX idx_loans_user_date ON loans(user_id, loan_date);
+CREATE INDEX idx_loans_user_status_date ON loans(user_id, status, loan_date);
 CREATE INDEX idx_loans_book_id ON loans(book_id);
 CREATE INDEX idx_loans_status ON loans(status);
 CREATE INDEX idx_reservations_user_id ON reservations(user_id);
 CREATE INDEX idx_reservations_book_id ON reservations(book_id);
-CREATE INDEX idx_reservations_status ON reservations(status); 
\ No newline at end of file
+CREATE INDEX idx_reservations_status ON reservations(status);
+-- 도서별 예약 대기열(상태, 예약 일시 순) 집계용
+CREATE INDEX idx_reservations_book_status_date ON reservations(book_id, status, reservation_date);
+
+-- 전문 검색(FULLTEXT) 인덱스 (library.search.strategy=full-text 에서 사용)
+-- ngram 파서로 띄어쓰기 없는 한글도 부분 일치 검색이 가능하며, MATCH 컬럼 목록과 인덱스 컬럼 목록이 같아야 하므로 저자 전용 인덱스를 별도로 둡니다.
+CREATE FULLTEXT INDEX ft_books_title_author_description ON books(title, author, description) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_books_author ON books(author) WITH PARSER ngram; 
\ No newline at end of file
@@ -7,6 +7,11 @@ SET character_set_client = utf8mb4;
 SET character_set_connection = utf8mb4;
 SET character_set_results = utf8mb4;
 
+-- 테스트 데이터로 직접 등록한 대출/예약 기준으로 사용자별 대출/예약 카운터 초기화
+UPDATE users SET
+    active_loan_count = (SELECT COUNT(*) FROM loans l WHERE l.user_id = users.id AND l.status <> 'RETURNED'),
+    active_reservation_count = (SELECT COUNT(*) FROM reservations r WHERE r.user_id = users.id AND r.status = 'RESERVED');
+
 -- 실행 완료 메시지 출력
 SELECT '도서관 데이터베이스 초기화가 완료되었습니다.' AS 'MESSAGE';
 SELECT '스키마, 10명의 테스트 유저, 90명의 랜덤 유저, 700권의 도서, 테스트 대출 기록 및 랜덤 대출/예약 데이터가 생성되었습니다.' AS 'STATUS';
@@ -0,0 +1,100 @@
+-- 기존 DB 업그레이드 스크립트
+-- docker/mysql/init 스크립트는 데이터 볼륨이 비어 있는 첫 기동에만 실행되므로,
+-- 이미 데이터가 있는 DB는 이 스크립트로 이후 추가된 테이블/컬럼/인덱스를 반영합니다.
+-- 이미 반영된 항목은 건너뛰므로 여러 번 실행해도 됩니다.
+-- 실행: docker exec -i library-mysql mysql -uroot -p library_db < docker/mysql/upgrade/01-existing-db.sql
+
+-- 데이터베이스 선택
+USE library_db;
+
+-- 문자 인코딩 설정
+SET NAMES utf8mb4;
+
+-- 이전 실행이 중간에 실패해 남은 프로시저 정리
+DROP PROCEDURE IF EXISTS add_column_if_missing;
+DROP PROCEDURE IF EXISTS create_index_if_missing;
+DROP PROCEDURE IF EXISTS drop_index_if_exists;
+
+DELIMITER //
+
+-- 컬럼이 없을 때만 추가
+CREATE PROCEDURE add_column_if_missing(IN tableName VARCHAR(64), IN columnName VARCHAR(64), IN definition VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = tableName AND column_name = columnName) THEN
+        SET @ddl = CONCAT('ALTER TABLE ', tableName, ' ADD COLUMN ', columnName, ' ', definition);
+        PREPARE statement FROM @ddl;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END IF;
+END //
+
+-- 인덱스가 없을 때만 생성
+CREATE PROCEDURE create_index_if_missing(IN tableName VARCHAR(64), IN indexName VARCHAR(64), IN ddl VARCHAR(512))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = tableName AND index_name = indexName) THEN
+        SET @ddl = ddl;
+        PREPARE statement FROM @ddl;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END IF;
+END //
+
+-- 인덱스가 있을 때만 삭제
+CREATE PROCEDURE drop_index_if_exists(IN tableName VARCHAR(64), IN indexName VARCHAR(64))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = tableName AND index_name = indexName) THEN
+        SET @ddl = CONCAT('DROP INDEX ', indexName, ' ON ', tableName);
+        PREPARE statement FROM @ddl;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END IF;
+END //
+
+DELIMITER ;
+
+-- 배치 작업 체크포인트 테이블 (연체 처리 배치 재개용)
+CREATE TABLE IF NOT EXISTS batch_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_date DATE NOT NULL,
+    last_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ID 생성기 노드 번호 임대 테이블 (실행 중인 인스턴스끼리 노드 번호가 겹치지 않도록 임대, 시각은 UTC)
+CREATE TABLE IF NOT EXISTS id_node_leases (
+    node_id INT PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    renewed_at DATETIME(3) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 사용자별 대출/예약 카운터 컬럼을 추가하고 현재 대출/예약 기준으로 초기화
+CALL add_column_if_missing('users', 'active_loan_count', 'INT NOT NULL DEFAULT 0 AFTER role');
+CALL add_column_if_missing('users', 'active_reservation_count', 'INT NOT NULL DEFAULT 0 AFTER active_loan_count');
+UPDATE users SET
+    active_loan_count = (SELECT COUNT(*) FROM loans l WHERE l.user_id = users.id AND l.status <> 'RETURNED'),
+    active_reservation_count = (SELECT COUNT(*) FROM reservations r WHERE r.user_id = users.id AND r.status = 'RESERVED');
+
+-- 사용자별 대출 이력 인덱스 (새 인덱스가 사용자 외래 키를 대신하므로 만든 뒤에 기존 인덱스 삭제)
+CALL create_index_if_missing('loans', 'idx_loans_user_date',
+    'CREATE INDEX idx_loans_user_date ON loans(user_id, loan_date)');
+CALL create_index_if_missing('loans', 'idx_loans_user_status_date',
+    'CREATE INDEX idx_loans_user_status_date ON loans(user_id, status, loan_date)');
+CALL drop_index_if_exists('loans', 'idx_loans_user_id');
+
+-- 도서별 예약 대기열 집계 인덱스
+CALL create_index_if_missing('reservations', 'idx_reservations_book_status_date',
+    'CREATE INDEX idx_reservations_book_status_date ON reservations(book_id, status, reservation_date)');
+
+-- 전문 검색(FULLTEXT) 인덱스 (library.search.strategy=full-text 에서 사용)
+CALL create_index_if_missing('books', 'ft_books_title_author_description',
+    'CREATE FULLTEXT INDEX ft_books_title_author_description ON books(title, author, description) WITH PARSER ngram');
+CALL create_index_if_missing('books', 'ft_books_author',
+    'CREATE FULLTEXT INDEX ft_books_author ON books(author) WITH PARSER ngram');
+
+-- 프로시저 삭제 (사용 후 정리)
+DROP PROCEDURE IF EXISTS add_column_if_missing;
+DROP PROCEDURE IF EXISTS create_index_if_missing;
+DROP PROCEDURE IF EXISTS drop_index_if_exists;
@@ -0,0 +1,130 @@
+package com.library.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.library.concurrent.SingleFlight;
+import com.library.config.BookProperties;
+import com.library.domain.book.BookChangedEvent;
+import com.library.domain.book.BookSnapshot;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.domain.loan.LoanReturnedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 도서 상세 조회용 읽기 캐시 (read-through)
+ *
+ * bookId를 키로 도서의 불변 스냅샷(BookSnapshot)을 보관하며, 각 항목에는 저장 시점의 "버전"이 함께 기록됩니다.
+ * 도서 수정/삭제와 대출/반납(재고 변경)이 커밋되면 해당 도서의 버전을 올리고 항목을 제거하므로,
+ * 쓰기가 끝난 뒤에는 이전 스냅샷이 조회되지 않습니다.
+ * 쓰기와 동시에 진행되던 조회 결과는 조회 시작 시점의 버전이 그대로일 때만 저장됩니다.
+ *
+ * 버전은 bookId 해시로 나눈 고정 개수의 칸(stripe)에 보관하여 도서 수와 관계없이 메모리 사용량이 일정합니다.
+ * 같은 칸을 쓰는 다른 도서의 항목도 함께 무효화되지만, 이는 추가 DB 조회 한 번으로 끝납니다.
+ * 적중/실패/크기 지표는 actuator의 cache.* 메트릭(cache=book.details)과 cache.hit.ratio로 확인할 수 있습니다.
+ */
+@Component
+public class BookDetailCache {
+
+    private static final String CACHE_NAME = "book.details";
+    private static final int VERSION_STRIPES = 4096;
+
+    private final Cache<String, Entry> cache;
+    private final SingleFlight singleFlight;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private record Entry(long version, BookSnapshot book) {
+    }
+
+    private record FlightKey(String bookId, long version) {
+    }
+
+    public BookDetailCache(BookProperties bookProperties, MeterRegistry meterRegistry, SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(bookProperties.getDetailCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(bookProperties.getDetailCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("The ratio of cache requests which were hits")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 도서 스냅샷을 반환하고, 없거나 이전 버전이면 loader로 조회하여 저장합니다.
+     * 같은 도서, 같은 버전을 동시에 요청하면 loader는 한 번만 실행됩니다 (SingleFlight, operation=getBookDetail).
+     * 버전을 병합 키에 포함하므로 쓰기 이후의 요청이 쓰기 이전에 시작된 조회 결과를 받지 않습니다.
+     *
+     * @param loader DB 조회 작업 (도서가 없으면 예외를 던지며, 예외는 저장하지 않습니다)
+     */
+    public BookSnapshot get(String bookId, Supplier<BookSnapshot> loader) {
+        long version = currentVersion(bookId);
+        Entry cached = cache.getIfPresent(bookId);
+        if (cached != null && cached.version() == version) {
+            return cached.book();
+        }
+
+        return singleFlight.execute("getBookDetail", new FlightKey(bookId, version), () -> {
+            // 직전 leader가 방금 저장한 결과가 있으면 다시 조회하지 않음
+            Entry loaded = cache.getIfPresent(bookId);
+            if (loaded != null && loaded.version() == version) {
+                return loaded.book();
+            }
+
+            BookSnapshot book = loader.get();
+            // 조회 도중 쓰기가 커밋되었다면(버전 변경) 저장하지 않음
+            cache.asMap().compute(bookId, (key, existing) ->
+                    currentVersion(key) == version ? new Entry(version, book) : existing);
+            return book;
+        });
+    }
+
+    // ETag 버전(CatalogVersions)이 오르기 전에 먼저 무효화해야, 새 ETag로 이전 스냅샷을 응답하지 않음
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        invalidate(event.before());
+        invalidate(event.after());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        invalidate(event.book());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        invalidate(event.book());
+    }
+
+    // 버전을 먼저 올려야 진행 중인 조회가 이전 스냅샷을 다시 저장하지 못함
+    private void invalidate(BookSnapshot book) {
+        if (book != null) {
+            versions.incrementAndGet(stripe(book.bookId()));
+            cache.invalidate(book.bookId());
+        }
+    }
+
+    private long currentVersion(String bookId) {
+        return versions.get(stripe(bookId));
+    }
+
+    private static int stripe(String bookId) {
+        int hash = bookId.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+}
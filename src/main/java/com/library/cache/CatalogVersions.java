@@ -0,0 +1,112 @@
+package com.library.cache;
+
+import com.library.config.BookProperties;
+import com.library.domain.book.BookChangedEvent;
+import com.library.domain.book.BookSnapshot;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.domain.loan.LoanReturnedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 도서 목록/상세 조회 응답의 ETag 생성기
+ *
+ * 응답 본문을 직렬화해 해시하지 않고, 도서 등록/수정/삭제와 대출/반납이 커밋될 때마다 올라가는 버전으로 ETag를 만듭니다.
+ * 전체 목록은 전체 버전, 카테고리별 목록은 카테고리 버전, 도서 상세는 도서 버전을 사용하므로
+ * 조건부 요청(If-None-Match)은 DB를 조회하지 않고 바로 304로 응답할 수 있습니다.
+ *
+ * 버전은 인스턴스 메모리에만 있으므로 ETag에는 기동마다 달라지는 값과 시간 구간(library.book.etag-max-stale-seconds)을 함께 넣습니다.
+ * 재시작 후 버전이 0부터 다시 시작해도 이전 ETag와 겹치지 않고, 다른 인스턴스에서 처리된 변경도 시간 구간이 바뀌면 반영됩니다.
+ * 도서 버전은 BookDetailCache와 같이 bookId 해시로 나눈 고정 개수의 칸(stripe)에 보관합니다.
+ */
+@Component
+public class CatalogVersions {
+
+    private static final int VERSION_STRIPES = 4096;
+
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final long bucketMillis;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> categoryVersions = new ConcurrentHashMap<>();
+    private final AtomicLongArray bookVersions = new AtomicLongArray(VERSION_STRIPES);
+
+    public CatalogVersions(BookProperties bookProperties) {
+        if (bookProperties.getEtagMaxStaleSeconds() <= 0) {
+            throw new IllegalArgumentException("ETag 유지 시간은 1초 이상이어야 합니다: " + bookProperties.getEtagMaxStaleSeconds());
+        }
+        this.bucketMillis = bookProperties.getEtagMaxStaleSeconds() * 1000;
+    }
+
+    /**
+     * 전체 도서 목록의 ETag
+     */
+    public String catalogETag() {
+        return eTag(catalogVersion.get());
+    }
+
+    /**
+     * 카테고리별 도서 목록의 ETag
+     */
+    public String categoryETag(String category) {
+        AtomicLong version = category != null ? categoryVersions.get(category) : null;
+        return eTag(version != null ? version.get() : 0);
+    }
+
+    /**
+     * 도서 상세의 ETag
+     */
+    public String bookETag(String bookId) {
+        return eTag(bookVersions.get(stripe(bookId)));
+    }
+
+    // 도서 상세 캐시(BookDetailCache)가 무효화된 뒤에 버전을 올림
+    // (먼저 올리면 그 사이의 상세 요청이 새 ETag와 이전 스냅샷을 함께 받아 다음 변경까지 304를 받을 수 있음)
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        catalogVersion.incrementAndGet();
+        increment(event.before());
+        increment(event.after());
+    }
+
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        catalogVersion.incrementAndGet();
+        increment(event.book());
+    }
+
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        catalogVersion.incrementAndGet();
+        increment(event.book());
+    }
+
+    private void increment(BookSnapshot book) {
+        if (book != null) {
+            bookVersions.incrementAndGet(stripe(book.bookId()));
+            // 카테고리가 비어 있는 기존 행은 카테고리 목록에 나오지 않으므로 카테고리 버전은 올리지 않음
+            if (book.category() != null) {
+                categoryVersions.computeIfAbsent(book.category(), category -> new AtomicLong()).incrementAndGet();
+            }
+        }
+    }
+
+    private String eTag(long version) {
+        return instance + "-" + Long.toString(System.currentTimeMillis() / bucketMillis, 36) + "-" + version;
+    }
+
+    private static int stripe(String bookId) {
+        int hash = bookId.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+}
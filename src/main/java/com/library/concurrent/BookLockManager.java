@@ -0,0 +1,117 @@
+package com.library.concurrent;
+
+import com.library.config.LockProperties;
+import com.library.exception.BusinessException;
+import com.library.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 도서별 요청 직렬화 잠금 (striped lock)
+ *
+ * 같은 도서에 대한 대출/반납/예약을 DB에 접근하기 전에 JVM 안에서 한 번에 하나씩 실행합니다.
+ * 인기 도서 요청이 DB 행 잠금을 기다리며 커넥션을 붙잡는 대신 여기서 도착 순서(공정 잠금)대로 기다리고,
+ * 대기 시간이 설정값을 넘으면 DB 잠금 대기 시간 초과보다 먼저 BOOK_BUSY로 실패합니다.
+ * 잠금은 bookId 해시로 고른 고정 개수의 칸(stripe)에 있으므로, 다른 도서끼리는 같은 칸이 아니면 동시에 실행됩니다.
+ *
+ * 인스턴스 안에서만 직렬화하므로 여러 인스턴스 간 재고 정합성은 DB의 조건부 UPDATE가 보장합니다.
+ * (대출은 재고가 남아 있을 때만 차감하고, 반납은 반납되지 않은 대출일 때만 반납 처리한 뒤 재고를 늘립니다)
+ * 대기 현황은 actuator의 library.book.lock.wait(operation, result=acquired|timeout 태그) 타이머와
+ * 칸별 대기 스레드 수 library.book.lock.queue(stripe 태그)로 확인할 수 있습니다.
+ */
+@Component
+public class BookLockManager {
+
+    private static final String WAIT_METRIC = "library.book.lock.wait";
+    private static final String QUEUE_METRIC = "library.book.lock.queue";
+
+    private final ReentrantLock[] locks;
+    private final long waitTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+
+    public BookLockManager(LockProperties lockProperties, MeterRegistry meterRegistry) {
+        if (lockProperties.getStripes() <= 0) {
+            throw new IllegalArgumentException("잠금 칸 수는 1 이상이어야 합니다: " + lockProperties.getStripes());
+        }
+        int stripes = Integer.highestOneBit(lockProperties.getStripes() - 1) << 1;
+        this.locks = new ReentrantLock[Math.max(1, stripes)];
+        this.waitTimeoutMillis = lockProperties.getWaitTimeoutMillis();
+        this.meterRegistry = meterRegistry;
+
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock(true);
+            Gauge.builder(QUEUE_METRIC, locks[i], ReentrantLock::getQueueLength)
+                    .tag("stripe", String.valueOf(i))
+                    .description("Threads waiting for the book lock stripe")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 도서 잠금을 얻은 뒤 action을 실행합니다.
+     * 트랜잭션과 DB 커넥션은 잠금을 얻은 뒤에 시작하고 커밋까지 마친 뒤 잠금을 풀도록,
+     * 호출하는 메서드는 트랜잭션 밖에서 실행하고 action 안에서 트랜잭션을 시작해야 합니다.
+     *
+     * @param bookId    잠금 키 (도서 ID)
+     * @param operation 작업 이름 (메트릭 태그로도 사용)
+     * @throws BusinessException 설정된 시간 안에 잠금을 얻지 못한 경우 (BOOK_BUSY)
+     */
+    public <T> T execute(String bookId, String operation, Supplier<T> action) {
+        return executeAll(List.of(bookId), operation, action);
+    }
+
+    /**
+     * 여러 도서의 잠금을 모두 얻은 뒤 action을 실행합니다. (여러 권 대출/반납)
+     * 잠금은 칸 번호 순서로 얻으므로, 서로 겹치는 도서를 동시에 요청해도 교착 상태가 생기지 않습니다.
+     * 대기 시간 제한은 잠금 하나가 아니라 전체 잠금에 적용되며, 하나라도 얻지 못하면 이미 얻은 잠금을 모두 풀고 실패합니다.
+     *
+     * @param bookIds   잠금 키 (도서 ID 목록, 중복 가능)
+     * @param operation 작업 이름 (메트릭 태그로도 사용)
+     * @throws BusinessException 설정된 시간 안에 모든 잠금을 얻지 못한 경우 (BOOK_BUSY)
+     */
+    public <T> T executeAll(Collection<String> bookIds, String operation, Supplier<T> action) {
+        int[] stripes = bookIds.stream().mapToInt(this::stripe).distinct().sorted().toArray();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        int acquired = 0;
+        try {
+            for (int stripe : stripes) {
+                if (!tryLock(locks[stripe], deadline - System.nanoTime())) {
+                    meterRegistry.timer(WAIT_METRIC, "operation", operation, "result", "timeout")
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    throw new BusinessException(ErrorCode.BOOK_BUSY);
+                }
+                acquired++;
+            }
+            meterRegistry.timer(WAIT_METRIC, "operation", operation, "result", "acquired")
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    private static boolean tryLock(ReentrantLock lock, long timeoutNanos) {
+        try {
+            return lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int stripe(String bookId) {
+        int hash = bookId.hashCode();
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+}
@@ -0,0 +1,244 @@
+package com.library.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ *
+ * 키마다 만료 시각을 등록해 두고, 시간이 흐르면 만료된 키를 꺼내 줍니다.
+ * 가장 아래 휠은 tickMillis 간격의 칸 wheelSize개로 이루어지고, 범위를 넘는 만료 시각은
+ * 한 칸이 아래 휠 전체 범위와 같은 위 휠에 등록됩니다. (예: 1초 × 64칸 → 64초 × 64칸 → 약 68분 × 64칸 → ...)
+ * 위 휠의 칸이 만료되면 그 안의 항목을 다시 등록하여 아래 휠로 내려보내므로,
+ * 등록/취소는 O(1)이고 시간을 진행할 때는 만료 시각이 된 칸만 처리합니다.
+ * 위 휠은 필요할 때 만들어지므로 만료 시각이 아무리 멀어도 칸 수는 휠 개수 × wheelSize를 넘지 않습니다.
+ *
+ * 항목은 칸마다 이중 연결 리스트로 보관하여 항목당 추가 객체 없이 취소할 수 있습니다.
+ * 모든 메서드는 인스턴스 단위로 동기화되어 있으며, 각 호출은 짧게 끝납니다.
+ *
+ * @param <K> 키 타입 (equals/hashCode 구현 필요)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Wheel> wheels = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    // 만료 시각이 설정된 칸을 만료 시각 순으로 보관 (칸의 만료 시각이 바뀐 기록은 꺼낼 때 건너뜀)
+    private final PriorityQueue<ScheduledBucket> buckets =
+            new PriorityQueue<>((a, b) -> Long.compare(a.expiration(), b.expiration()));
+    private final ArrayDeque<Entry<K>> expired = new ArrayDeque<>();
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadline;
+        private Bucket bucket;
+        private Entry<K> previous;
+        private Entry<K> next;
+
+        private Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final class Bucket {
+        // 원형 이중 연결 리스트의 기준 노드
+        private final Entry<Object> head = new Entry<>(null, 0);
+        private long expiration = -1;
+
+        private Bucket() {
+            head.previous = head;
+            head.next = head;
+        }
+    }
+
+    private record ScheduledBucket(long expiration, Bucket bucket) {
+    }
+
+    private final class Wheel {
+        private final long tick;
+        private final long interval;
+        private final Bucket[] slots;
+        private long currentTime;
+
+        private Wheel(long tick, long startMillis) {
+            this.tick = tick;
+            this.interval = tick * wheelSize;
+            this.slots = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new Bucket();
+            }
+            this.currentTime = startMillis - (startMillis % tick);
+        }
+    }
+
+    /**
+     * @param tickMillis  가장 아래 휠의 칸 간격(밀리초), 만료 시각의 정밀도
+     * @param wheelSize   휠 하나의 칸 수
+     * @param startMillis 시작 시각(epoch 밀리초)
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("칸 간격은 1 이상, 칸 수는 2 이상이어야 합니다: " + tickMillis + ", " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        wheels.add(new Wheel(tickMillis, startMillis));
+    }
+
+    /**
+     * 키의 만료 시각을 등록합니다. 이미 등록된 키라면 기존 만료 시각을 대체합니다.
+     * 만료 시각은 칸 간격 단위로 올림하므로 만료 시각보다 일찍 꺼내지는 일은 없습니다.
+     * 이미 지난 시각이면 다음 poll에서 바로 꺼내집니다.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long remainder = Math.floorMod(deadlineMillis, tickMillis);
+        Entry<K> entry = new Entry<>(key, remainder == 0 ? deadlineMillis : deadlineMillis - remainder + tickMillis);
+        entries.put(key, entry);
+        add(entry);
+    }
+
+    /**
+     * 키의 등록을 취소합니다.
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            unlink(entry);
+        }
+        // 이미 만료 목록으로 옮겨진 항목은 poll에서 entries와 대조하여 건너뜀
+        return true;
+    }
+
+    /**
+     * 시각을 nowMillis까지 진행하고, 만료된 키를 최대 maxKeys개까지 꺼냅니다.
+     * 꺼내지 못한 만료 키는 다음 호출에서 먼저 꺼내집니다.
+     */
+    public synchronized List<K> poll(long nowMillis, int maxKeys) {
+        advance(nowMillis);
+
+        List<K> result = new ArrayList<>(Math.min(maxKeys, expired.size()));
+        while (result.size() < maxKeys) {
+            Entry<K> entry = expired.poll();
+            if (entry == null) {
+                break;
+            }
+            if (entries.remove(entry.key, entry)) {
+                result.add(entry.key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 등록되어 있는(만료되었지만 아직 꺼내지 않은 키 포함) 키 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void advance(long nowMillis) {
+        while (!buckets.isEmpty() && buckets.peek().expiration() <= nowMillis) {
+            ScheduledBucket scheduled = buckets.poll();
+            Bucket bucket = scheduled.bucket();
+            if (bucket.expiration != scheduled.expiration()) {
+                continue;
+            }
+            advanceClock(scheduled.expiration());
+
+            // 칸을 비운 뒤 항목을 다시 등록: 아래 휠로 내려가거나 만료 목록으로 이동
+            bucket.expiration = -1;
+            List<Entry<K>> flushed = drain(bucket);
+            for (Entry<K> entry : flushed) {
+                add(entry);
+            }
+        }
+        // 만료된 칸이 없던 동안에도 현재 시각을 따라가야 새로 등록하는 항목이 알맞은 휠에 들어감
+        advanceClock(nowMillis);
+    }
+
+    private void add(Entry<K> entry) {
+        for (int level = 0; ; level++) {
+            Wheel wheel = wheel(level);
+            if (entry.deadline < wheel.currentTime + wheel.tick) {
+                entry.bucket = null;
+                expired.add(entry);
+                return;
+            }
+            if (entry.deadline < wheel.currentTime + wheel.interval) {
+                long virtualId = entry.deadline / wheel.tick;
+                Bucket bucket = wheel.slots[(int) (virtualId % wheelSize)];
+                link(bucket, entry);
+                long expiration = virtualId * wheel.tick;
+                if (bucket.expiration != expiration) {
+                    bucket.expiration = expiration;
+                    buckets.add(new ScheduledBucket(expiration, bucket));
+                }
+                return;
+            }
+        }
+    }
+
+    private Wheel wheel(int level) {
+        if (level == wheels.size()) {
+            Wheel lower = wheels.get(level - 1);
+            wheels.add(new Wheel(lower.interval, lower.currentTime));
+        }
+        return wheels.get(level);
+    }
+
+    private void advanceClock(long timeMillis) {
+        for (Wheel wheel : wheels) {
+            if (timeMillis >= wheel.currentTime + wheel.tick) {
+                wheel.currentTime = timeMillis - (timeMillis % wheel.tick);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void link(Bucket bucket, Entry<K> entry) {
+        Entry<K> head = (Entry<K>) (Entry<?>) bucket.head;
+        entry.bucket = bucket;
+        entry.previous = head.previous;
+        entry.next = head;
+        head.previous.next = entry;
+        head.previous = entry;
+    }
+
+    private void unlink(Entry<K> entry) {
+        entry.previous.next = entry.next;
+        entry.next.previous = entry.previous;
+        entry.previous = null;
+        entry.next = null;
+        entry.bucket = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entry<K>> drain(Bucket bucket) {
+        Entry<K> head = (Entry<K>) (Entry<?>) bucket.head;
+        List<Entry<K>> drained = new ArrayList<>();
+        Entry<K> entry = head.next;
+        while (entry != head) {
+            Entry<K> next = entry.next;
+            entry.previous = null;
+            entry.next = null;
+            entry.bucket = null;
+            drained.add(entry);
+            entry = next;
+        }
+        head.previous = head;
+        head.next = head;
+        return drained;
+    }
+}
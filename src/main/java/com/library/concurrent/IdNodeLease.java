@@ -0,0 +1,151 @@
+package com.library.concurrent;
+
+import com.library.config.IdProperties;
+import com.library.repository.IdNodeLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * ID 생성기 노드 번호 임대
+ *
+ * 같은 노드 번호를 쓰는 인스턴스는 같은 ID를 발급할 수 있으므로, 노드 번호를 DB(id_node_leases)에서 임대하여
+ * 실행 중인 인스턴스끼리 겹치지 않게 합니다. 번호를 지정하지 않으면 호스트 이름 해시 위치부터 비어 있는 번호를 찾습니다.
+ * 임대는 library.id.lease-renew-millis마다 갱신하며, library.id.lease-seconds 동안 갱신되지 않은 번호는 다른 인스턴스가 가져갈 수 있습니다.
+ * DB 장애 등으로 갱신하지 못하면 다른 인스턴스가 번호를 가져갈 수 있게 되기 전에(갱신 주기만큼 여유를 두고) ID 발급을 멈추고,
+ * 다시 임대하면 재개합니다. 임대 시각은 인스턴스 간 시간대 차이가 없도록 UTC로 기록합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("schemaVerifier")
+public class IdNodeLease implements DisposableBean {
+
+    private final IdNodeLeaseRepository idNodeLeaseRepository;
+    private final String owner;
+    private final long leaseMillis;
+    private final long renewMillis;
+    private final int nodeId;
+    // 이 시각까지는 다른 인스턴스가 같은 번호를 가져갈 수 없음 (0이면 발급 중단)
+    private volatile long validUntilMillis;
+
+    public IdNodeLease(IdProperties idProperties, IdNodeLeaseRepository idNodeLeaseRepository) {
+        if (idProperties.getNodeId() > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0~" + SnowflakeIdGenerator.MAX_NODE_ID + " 사이여야 합니다: "
+                    + idProperties.getNodeId());
+        }
+        if (idProperties.getLeaseRenewMillis() <= 0
+                || idProperties.getLeaseRenewMillis() * 2 > idProperties.getLeaseSeconds() * 1000L) {
+            throw new IllegalArgumentException("노드 번호 임대 갱신 주기는 0보다 크고 유지 시간의 절반 이하여야 합니다: "
+                    + idProperties.getLeaseRenewMillis() + "ms");
+        }
+        this.idNodeLeaseRepository = idNodeLeaseRepository;
+        this.owner = hostName() + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.leaseMillis = idProperties.getLeaseSeconds() * 1000L;
+        this.renewMillis = idProperties.getLeaseRenewMillis();
+        this.nodeId = idProperties.getNodeId() >= 0 ? acquire(idProperties.getNodeId()) : acquireFree();
+        log.info("ID 생성기 노드 번호 {} 임대 ({})", nodeId, owner);
+    }
+
+    public int nodeId() {
+        return nodeId;
+    }
+
+    public long validUntilMillis() {
+        return validUntilMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${library.id.lease-renew-millis}")
+    public void renew() {
+        long now = System.currentTimeMillis();
+        boolean suspended = validUntilMillis < now;
+        try {
+            // 갱신하지 못한 사이 만료된 번호를 아무도 가져가지 않았으면 다시 임대
+            if (idNodeLeaseRepository.renew(nodeId, owner, utc(now)) || tryAcquire(nodeId, now)) {
+                validUntilMillis = now + leaseMillis - renewMillis;
+                if (suspended) {
+                    log.info("노드 번호 {} 임대를 다시 얻어 ID 발급을 재개합니다.", nodeId);
+                }
+            } else {
+                validUntilMillis = 0;
+                log.error("노드 번호 {} 임대를 다른 인스턴스가 가져가 ID 발급을 중단합니다.", nodeId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("노드 번호 {} 임대 갱신 실패, {}까지 ID를 발급합니다.", nodeId, Instant.ofEpochMilli(validUntilMillis), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        validUntilMillis = 0;
+        try {
+            idNodeLeaseRepository.release(nodeId, owner);
+        } catch (DataAccessException e) {
+            log.warn("노드 번호 {} 임대 반납 실패, {}초 뒤 만료됩니다.", nodeId, leaseMillis / 1000, e);
+        }
+    }
+
+    /**
+     * 지정한 번호를 임대합니다. 다른 인스턴스가 사용 중이면(비정상 종료로 반납하지 못한 경우 포함) 임대가 만료될 때까지 기다립니다.
+     */
+    private int acquire(int requested) {
+        long deadline = System.currentTimeMillis() + leaseMillis + renewMillis;
+        while (true) {
+            long now = System.currentTimeMillis();
+            if (tryAcquire(requested, now)) {
+                return requested;
+            }
+            if (now >= deadline) {
+                throw new IllegalStateException("노드 번호 " + requested + "을(를) 다른 인스턴스가 사용 중입니다. "
+                        + "library.id.node-id를 인스턴스마다 다르게 지정하거나 음수로 두어 자동으로 임대하세요.");
+            }
+            log.warn("노드 번호 {}을(를) 다른 인스턴스가 사용 중이므로 임대가 만료될 때까지 기다립니다.", requested);
+            try {
+                Thread.sleep(renewMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("노드 번호 임대 대기 중 중단되었습니다.", e);
+            }
+        }
+    }
+
+    private int acquireFree() {
+        int start = hostName().hashCode() & SnowflakeIdGenerator.MAX_NODE_ID;
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_NODE_ID; i++) {
+            int candidate = (start + i) & SnowflakeIdGenerator.MAX_NODE_ID;
+            if (tryAcquire(candidate, System.currentTimeMillis())) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("임대할 수 있는 노드 번호가 없습니다. (최대 " + (SnowflakeIdGenerator.MAX_NODE_ID + 1) + "개 인스턴스)");
+    }
+
+    private boolean tryAcquire(int candidate, long now) {
+        if (!idNodeLeaseRepository.tryAcquire(candidate, owner, utc(now), utc(now - leaseMillis))) {
+            return false;
+        }
+        validUntilMillis = now + leaseMillis - renewMillis;
+        return true;
+    }
+
+    private static LocalDateTime utc(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.library.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 병합(single-flight)
+ *
+ * 같은 작업(operation)과 키로 동시에 들어온 요청 중 첫 요청(leader)만 loader를 실행하고,
+ * 실행 중에 도착한 나머지 요청(coalesced)은 그 결과(또는 예외)를 함께 받습니다.
+ * 결과를 저장하지는 않으므로 실행이 끝난 뒤 들어온 요청은 다시 loader를 실행합니다.
+ *
+ * 대기 중인 요청이 DB 커넥션을 잡고 있지 않도록, 호출하는 메서드는 트랜잭션 밖에서 실행되어야 합니다.
+ * 병합 현황은 actuator의 library.singleflight.calls 메트릭(operation, role=leader|coalesced 태그)으로 확인할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private static final String METRIC_NAME = "library.singleflight.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private record FlightKey(String operation, Object key) {
+    }
+
+    /**
+     * @param operation 작업 이름 (메트릭 태그로도 사용)
+     * @param key       동일 요청을 판단할 키 (equals/hashCode 구현 필요)
+     * @param loader    실제 조회 작업
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            meterRegistry.counter(METRIC_NAME, "operation", operation, "role", "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        meterRegistry.counter(METRIC_NAME, "operation", operation, "role", "leader").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    // leader의 예외는 감싸지 않고 그대로 전달
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.library.concurrent;
+
+import com.library.exception.BusinessException;
+import com.library.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 ID 생성기 (Snowflake 방식)
+ *
+ * 64비트 ID = 부호(1) | 기준 시각 이후 밀리초(41) | 노드 번호(10) | 밀리초 내 순번(12)
+ * 같은 인스턴스에서는 항상 증가하고, 노드 번호가 다른 인스턴스끼리는 겹치지 않습니다.
+ *
+ * 마지막으로 발급한 (밀리초, 순번)을 하나의 long에 담아 CAS로 갱신하므로 락이 없습니다.
+ * 한 밀리초에 4096개를 넘게 발급하거나 시스템 시계가 뒤로 가면 다음 밀리초 값을 미리 당겨 쓰며,
+ * 시계가 따라잡으면 다시 현재 시각 기준으로 발급합니다.
+ * 재시작 시 이미 발급한 ID와 겹치지 않도록 시계보다 앞설 수 있는 시간은 MAX_AHEAD_MILLIS로 제한하고,
+ * 그 이상 앞서게 되면 시계가 따라잡을 때까지 기다립니다.
+ *
+ * 노드 번호는 DB에서 임대(IdNodeLease)하므로 실행 중인 인스턴스끼리 겹치지 않으며,
+ * 임대가 갱신되지 않아 다른 인스턴스가 같은 번호를 가져갈 수 있게 되면 ID 발급을 멈춥니다.
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH = 1735689600000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ID_DIGITS = 19;
+    private static final long MAX_AHEAD_MILLIS = 10;
+
+    private final long nodeBits;
+    // 노드 번호 임대 (null이면 임대 없이 고정 번호 사용)
+    private final IdNodeLease lease;
+    // (기준 시각 이후 밀리초 << SEQUENCE_BITS) | 순번, 순번이 넘치면 자연스럽게 다음 밀리초로 올라감
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(IdNodeLease lease) {
+        this(lease.nodeId(), lease);
+    }
+
+    /**
+     * 임대 없이 지정한 노드 번호로 발급합니다. (DB 없이 실행하는 측정 프로그램, 테스트용)
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, null);
+    }
+
+    private SnowflakeIdGenerator(int nodeId, IdNodeLease lease) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.lease = lease;
+    }
+
+    /**
+     * 새 ID를 발급합니다.
+     */
+    public long nextId() {
+        while (true) {
+            long millis = System.currentTimeMillis();
+            if (lease != null && millis > lease.validUntilMillis()) {
+                throw new BusinessException(ErrorCode.ID_NODE_LEASE_EXPIRED);
+            }
+            long now = (millis - EPOCH) << SEQUENCE_BITS;
+            long last = lastState.get();
+            long next = Math.max(last + 1, now);
+            if ((next - now) >>> SEQUENCE_BITS > MAX_AHEAD_MILLIS) {
+                Thread.yield();
+                continue;
+            }
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+            }
+        }
+    }
+
+    /**
+     * 접두사와 19자리로 0을 채운 ID를 붙인 문자열 ID를 발급합니다. (예: b0000123456789012345)
+     * 자릿수가 고정되어 있으므로 문자열 순서가 발급 순서와 같아, 문자열 키 인덱스에도 뒤쪽에 차례로 추가됩니다.
+     */
+    public String nextId(String prefix) {
+        String digits = Long.toString(nextId());
+        StringBuilder id = new StringBuilder(prefix.length() + ID_DIGITS).append(prefix);
+        for (int i = digits.length(); i < ID_DIGITS; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+}
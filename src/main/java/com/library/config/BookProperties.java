@@ -0,0 +1,36 @@
+package com.library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 도서 조회 관련 설정 속성
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.book")
+@Getter
+@Setter
+public class BookProperties {
+    /**
+     * 도서 상세 캐시 최대 항목 수
+     */
+    private long detailCacheMaxSize = 50000;
+    
+    /**
+     * 도서 상세 캐시 유효 시간(초), 서비스를 거치지 않은 DB 변경이 반영되는 최대 지연 시간
+     */
+    private long detailCacheTtlSeconds = 600;
+    
+    /**
+     * 도서 일괄 등록 시 한 번에 검증/등록하는 행 수 (ISBN 중복 조회 및 JDBC 배치 단위)
+     */
+    private int importChunkSize = 1000;
+    
+    /**
+     * 도서 목록/상세 ETag 유지 시간(초), 다른 인스턴스에서 처리된 변경이나 DB 직접 변경이 조건부 조회에 반영되는 최대 지연 시간
+     */
+    private long etagMaxStaleSeconds = 60;
+}
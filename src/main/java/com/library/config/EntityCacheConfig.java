@@ -0,0 +1,68 @@
+package com.library.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA 2차 캐시 설정 (Hibernate JCache + Caffeine)
+ *
+ * Book, User 엔티티와 자연 키(bookId, userId), ISBN 조회 쿼리 결과를 인스턴스 메모리에 캐시합니다.
+ * 영역(region)마다 최대 항목 수와 유효 시간을 지정해 캐시를 미리 만들어 두고, 지정하지 않은 영역은
+ * 크기 제한 없이 만들어지지 않도록 missing_cache_strategy=fail로 기동을 실패시킵니다.
+ * 영역별 적중률은 actuator의 hibernate.second.level.cache.requests, hibernate.cache.natural.id.requests,
+ * hibernate.cache.query.requests 메트릭으로 확인할 수 있습니다. (hibernate.generate_statistics=true 필요)
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    private static final String BOOK_REGION = "book";
+    private static final String BOOK_NATURAL_ID_REGION = "book-natural-id";
+    private static final String USER_REGION = "user";
+    private static final String USER_NATURAL_ID_REGION = "user-natural-id";
+
+    @Bean
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        long ttlNanos = TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+
+        cacheManager.createCache(BOOK_REGION, region(properties.getBookMaxSize(), ttlNanos));
+        cacheManager.createCache(BOOK_NATURAL_ID_REGION, region(properties.getBookMaxSize(), ttlNanos));
+        cacheManager.createCache(USER_REGION, region(properties.getUserMaxSize(), ttlNanos));
+        cacheManager.createCache(USER_NATURAL_ID_REGION, region(properties.getUserMaxSize(), ttlNanos));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(properties.getQueryMaxSize(), ttlNanos));
+        // 테이블별 마지막 변경 시각은 쿼리 결과의 유효성 판단에 쓰이므로 제거되거나 만료되면 안 됨
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, unbounded());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, long expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = unbounded();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWriteNanos));
+        return configuration;
+    }
+
+    private static CaffeineConfiguration<Object, Object> unbounded() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 캐시 항목은 변경되지 않으므로 읽기/쓰기마다 직렬화 복사하지 않음
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,36 @@
+package com.library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA 2차 캐시(엔티티, 자연 키, 쿼리 결과) 영역별 설정 속성
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.entity-cache")
+@Getter
+@Setter
+public class EntityCacheProperties {
+    /**
+     * 도서 엔티티 및 bookId 자연 키 캐시 최대 항목 수
+     */
+    private long bookMaxSize = 50000;
+    
+    /**
+     * 사용자 엔티티 및 userId 자연 키 캐시 최대 항목 수
+     */
+    private long userMaxSize = 50000;
+    
+    /**
+     * 쿼리 결과(ISBN 조회) 캐시 최대 항목 수
+     */
+    private long queryMaxSize = 10000;
+    
+    /**
+     * 캐시 유효 시간(초), 애플리케이션을 거치지 않은 DB 변경이 반영되는 최대 지연 시간
+     */
+    private long ttlSeconds = 3600;
+}
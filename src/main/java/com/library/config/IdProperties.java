@@ -0,0 +1,33 @@
+package com.library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 도서/대출/예약 ID 생성 관련 설정 속성
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.id")
+@Getter
+@Setter
+public class IdProperties {
+    /**
+     * 인스턴스 노드 번호 (0~1023)
+     * 음수이면 DB(id_node_leases)에서 비어 있는 번호를 임대합니다. 지정하면 그 번호를 임대하며,
+     * 다른 인스턴스가 사용 중이면 임대가 만료될 때까지 기다린 뒤에도 얻지 못하면 기동에 실패합니다.
+     */
+    private int nodeId = -1;
+
+    /**
+     * 노드 번호 임대 유지 시간(초), 이 시간 동안 갱신하지 않은 번호는 다른 인스턴스가 가져갈 수 있습니다.
+     */
+    private int leaseSeconds = 60;
+
+    /**
+     * 노드 번호 임대 갱신 주기(밀리초), 임대 유지 시간보다 충분히 짧아야 합니다.
+     */
+    private long leaseRenewMillis = 10000;
+}
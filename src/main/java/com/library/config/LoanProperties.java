@@ -33,4 +33,19 @@ public class LoanProperties {
      * 기본 연장 기간(일)
      */
     private int defaultExtensionPeriod = 14;
+    
+    /**
+     * 연체 처리 배치에서 한 트랜잭션으로 처리하는 대출 수
+     */
+    private int overdueChunkSize = 1000;
+    
+    /**
+     * 연체 전환 타이머(타이밍 휠)의 칸 간격(밀리초), 반납 예정일이 지난 대출을 확인하는 주기
+     */
+    private long dueTimerTickMillis = 1000;
+    
+    /**
+     * 연체 전환 타이머가 한 번에(한 트랜잭션으로) 연체 처리하는 최대 대출 수
+     */
+    private int dueTimerBatchSize = 500;
 } 
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 도서별 요청 직렬화(대출/반납/예약) 잠금 관련 설정 속성
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.lock")
+@Getter
+@Setter
+public class LockProperties {
+    /**
+     * 잠금 칸(stripe) 수 (2의 거듭제곱으로 올림), 서로 다른 도서가 같은 칸을 쓸 확률을 정합니다.
+     */
+    private int stripes = 256;
+    
+    /**
+     * 잠금 최대 대기 시간(밀리초), 넘으면 DB 잠금 대기 없이 바로 실패를 응답합니다.
+     */
+    private long waitTimeoutMillis = 3000;
+}
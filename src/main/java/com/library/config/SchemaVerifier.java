@@ -0,0 +1,40 @@
+package com.library.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC로만 사용하는 테이블/컬럼 확인
+ *
+ * 사용자 카운터 컬럼(users.active_loan_count, users.active_reservation_count), 배치 체크포인트 테이블(batch_checkpoints),
+ * ID 노드 번호 임대 테이블(id_node_leases)은 엔티티에 매핑하지 않으므로 ddl-auto=validate로 확인되지 않습니다.
+ * 기존 DB에 업그레이드 스크립트(docker/mysql/upgrade)를 적용하지 않았다면 대출/예약 요청마다 실패하는 대신 기동 시 바로 실패합니다.
+ * 노드 번호 임대(IdNodeLease)가 생성 시 테이블을 사용하므로, 빈 생성 직후에 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaVerifier implements InitializingBean {
+
+    private static final String UPGRADE_SCRIPT = "docker/mysql/upgrade/01-existing-db.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        verify("users.active_loan_count, users.active_reservation_count",
+                "SELECT active_loan_count, active_reservation_count FROM users WHERE 1 = 0");
+        verify("batch_checkpoints", "SELECT job_name, run_date, last_id FROM batch_checkpoints WHERE 1 = 0");
+        verify("id_node_leases", "SELECT node_id, owner, renewed_at FROM id_node_leases WHERE 1 = 0");
+    }
+
+    private void verify(String name, String sql) {
+        try {
+            jdbcTemplate.queryForList(sql);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("DB 스키마에 " + name + "이(가) 없습니다. " + UPGRADE_SCRIPT + "를 실행하세요.", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 도서 검색 관련 설정 속성
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.search")
+@Getter
+@Setter
+public class SearchProperties {
+    /**
+     * 검색 결과 캐시 최대 항목 수
+     */
+    private long cacheMaxSize = 10000;
+    
+    /**
+     * 검색 결과 캐시 유효 시간(초)
+     */
+    private long cacheTtlSeconds = 60;
+    
+    /**
+     * 검색 전략 (in-memory: 인메모리 인덱스, full-text: DB 전문 검색 인덱스)
+     */
+    private String strategy = "in-memory";
+}
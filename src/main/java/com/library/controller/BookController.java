@@ -1,7 +1,10 @@
 package com.library.controller;
 
+import com.library.cache.CatalogVersions;
 import com.library.dto.book.BookDto;
+import com.library.dto.book.BookImportDto;
 import com.library.dto.book.BookReservationDto;
+import com.library.service.BookImportService;
 import com.library.service.BookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,11 +14,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "Book Management", description = "도서 관리 API")
@@ -25,6 +34,8 @@ import java.util.List;
 public class BookController {
     
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final CatalogVersions catalogVersions;
     
     @Operation(summary = "도서 등록", description = "새로운 도서를 등록합니다.")
     @ApiResponses(value = {
@@ -36,6 +47,27 @@ public class BookController {
         return new ResponseEntity<>(bookService.createBook(request), HttpStatus.CREATED);
     }
     
+    @Operation(
+        summary = "도서 일괄 등록",
+        description = "CSV(text/csv, 첫 행은 title,author,isbn,publishedDate,category,copiesAvailable,description 헤더) 또는 "
+                + "NDJSON(application/x-ndjson, 한 줄에 도서 등록 요청 하나) 본문을 읽어 도서를 일괄 등록합니다. "
+                + "검증이나 ISBN 중복으로 실패한 행은 건너뛰고 행 번호와 사유를 응답에 포함합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "일괄 등록 완료 (행별 실패 사유 포함)"),
+        @ApiResponse(responseCode = "400", description = "CSV 헤더에 필수 컬럼이 없음", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BookImportDto.Response> importBooks(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) throws IOException {
+        BookImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+            ? BookImportService.Format.NDJSON
+            : BookImportService.Format.CSV;
+        return ResponseEntity.ok(bookImportService.importBooks(body, format));
+    }
+    
     @Operation(summary = "도서 정보 수정", description = "도서 정보(수량, 설명)를 수정합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "도서 정보 수정 성공"),
@@ -65,36 +97,67 @@ public class BookController {
         return ResponseEntity.noContent().build();
     }
     
-    @Operation(summary = "도서 목록 조회", description = "전체 도서 목록을 조회합니다.")
+    @Operation(summary = "도서 목록 조회", description = "전체 도서 목록을 조회합니다. If-None-Match가 현재 ETag와 같으면 DB를 조회하지 않고 304로 응답합니다.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "도서 목록 조회 성공")
+        @ApiResponse(responseCode = "200", description = "도서 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<BookDto.SimpleResponse>> getAllBooks() {
-        return ResponseEntity.ok(bookService.getAllBooks());
+    public ResponseEntity<List<BookDto.SimpleResponse>> getAllBooks(WebRequest webRequest) {
+        // ETag는 조회 전에 계산해야 조회 도중 변경이 생겨도 다음 요청에서 다시 받음
+        if (webRequest.checkNotModified(catalogVersions.catalogETag())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(bookService.getAllBooks());
     }
     
-    @Operation(summary = "도서 상세 조회", description = "도서 상세 정보를 조회합니다.")
+    @Operation(
+        summary = "도서 목록 스트리밍 조회",
+        description = "Accept: application/x-ndjson 요청 시 전체 도서를 한 줄에 하나씩(NDJSON) 스트리밍합니다. "
+                + "전체 목록을 메모리에 올리지 않으므로 도서 수가 많아도 바로 응답이 시작됩니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "도서 목록 스트리밍 성공")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllBooks() {
+        StreamingResponseBody body = bookService::writeAllBooksAsNdjson;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
+    @Operation(summary = "도서 상세 조회", description = "도서 상세 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 DB를 조회하지 않고 304로 응답합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "도서 상세 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음", content = @Content),
         @ApiResponse(responseCode = "404", description = "도서를 찾을 수 없음", content = @Content)
     })
     @GetMapping("/{bookId}")
     public ResponseEntity<BookDto.Response> getBookDetail(
-        @Parameter(description = "도서 ID", required = true) @PathVariable String bookId
+        @Parameter(description = "도서 ID", required = true) @PathVariable String bookId,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(bookService.getBookDetail(bookId));
+        if (webRequest.checkNotModified(catalogVersions.bookETag(bookId))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(bookService.getBookDetail(bookId));
     }
     
-    @Operation(summary = "카테고리별 도서 조회", description = "특정 카테고리의 도서 목록을 조회합니다.")
+    @Operation(summary = "카테고리별 도서 조회", description = "특정 카테고리의 도서 목록을 조회합니다. If-None-Match가 현재 ETag와 같으면 DB를 조회하지 않고 304로 응답합니다.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "카테고리별 도서 조회 성공")
+        @ApiResponse(responseCode = "200", description = "카테고리별 도서 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음", content = @Content)
     })
     @GetMapping("/category/{category}")
     public ResponseEntity<List<BookDto.SimpleResponse>> getBooksByCategory(
-        @Parameter(description = "도서 카테고리", required = true) @PathVariable String category
+        @Parameter(description = "도서 카테고리", required = true) @PathVariable String category,
+        WebRequest webRequest
     ) {
-        return ResponseEntity.ok(bookService.getBooksByCategory(category));
+        if (webRequest.checkNotModified(catalogVersions.categoryETag(category))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(bookService.getBooksByCategory(category));
     }
     
     @Operation(summary = "예약 가능한 도서 목록 조회", description = "현재 대출 가능한 책이 없는 도서 목록을 조회합니다.")
@@ -1,5 +1,6 @@
 package com.library.controller;
 
+import com.library.domain.loan.LoanStatus;
 import com.library.dto.loan.LoanDto;
 import com.library.service.LoanService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,10 +11,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Loan Management", description = "도서 대출 관리 API")
@@ -35,6 +38,28 @@ public class LoanController {
         return new ResponseEntity<>(loanService.createLoan(request), HttpStatus.CREATED);
     }
     
+    @Operation(summary = "여러 권 대출", description = "한 사용자가 여러 권(최대 5권)을 한 번에 대출합니다. 도서별 성공 여부를 요청 순서대로 반환합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 존재하지 않는 사용자", content = @Content),
+        @ApiResponse(responseCode = "503", description = "도서 잠금 대기 시간 초과", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<LoanDto.BatchResponse> createLoans(@Valid @RequestBody LoanDto.BatchCreateRequest request) {
+        return ResponseEntity.ok(loanService.createLoans(request));
+    }
+    
+    @Operation(summary = "여러 권 반납", description = "한 사용자의 대출 여러 건(최대 5건)을 한 번에 반납합니다. 대출별 성공 여부를 요청 순서대로 반환합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 존재하지 않는 사용자", content = @Content),
+        @ApiResponse(responseCode = "503", description = "도서 잠금 대기 시간 초과", content = @Content)
+    })
+    @PostMapping("/batch-return")
+    public ResponseEntity<LoanDto.BatchResponse> returnBooks(@Valid @RequestBody LoanDto.BatchReturnRequest request) {
+        return ResponseEntity.ok(loanService.returnBooks(request));
+    }
+    
     @Operation(summary = "대출 내역 조회", description = "사용자의 대출 내역을 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "대출 내역 조회 성공"),
@@ -48,6 +73,23 @@ public class LoanController {
         return ResponseEntity.ok(loanService.getLoansByUserId(userId));
     }
     
+    @Operation(summary = "대출 이력 조회", description = "사용자의 대출 이력을 대출일 최신순으로 페이지 단위로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "대출 이력 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (조회 크기, 기간, 커서) 또는 존재하지 않는 사용자", content = @Content)
+    })
+    @GetMapping("/history")
+    public ResponseEntity<LoanDto.HistoryResponse> getLoanHistory(
+        @Parameter(description = "사용자 ID", required = true) @RequestParam String userId,
+        @Parameter(description = "대출 상태 (LOANED, OVERDUE, RETURNED)") @RequestParam(required = false) LoanStatus status,
+        @Parameter(description = "대출일 시작 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "대출일 종료 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(loanService.getLoanHistory(userId, status, from, to, cursor, size));
+    }
+    
     @Operation(summary = "도서 반납", description = "대출한 도서를 반납합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "도서 반납 성공"),
@@ -29,7 +29,10 @@ public class SearchController {
 
     @Operation(
         summary = "도서 검색", 
-        description = "키워드, 카테고리, 저자로 도서를 검색합니다. 한글 키워드를 사용할 경우 URL 인코딩이 필요합니다."
+        description = "키워드, 카테고리, 저자로 도서를 검색합니다. 한글 키워드를 사용할 경우 URL 인코딩이 필요합니다. "
+                + "키워드나 저자에 초성(예: ㅎㄹㅍㅌ)을 입력하면 초성으로 검색합니다. "
+                + "cursor 파라미터를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회하며, 응답의 nextCursor로 다음 페이지를 조회합니다. "
+                + "fuzzy=true이면 오타를 허용하여 단어 단위로 검색하고, sort=relevance이면 관련도(BM25) 순으로 정렬합니다."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "검색 성공"),
@@ -50,7 +53,19 @@ public class SearchController {
             @RequestParam(required = false, defaultValue = "0") Integer page,
             
             @Parameter(description = "페이지 크기")
-            @RequestParam(required = false, defaultValue = "10") Integer size
+            @RequestParam(required = false, defaultValue = "10") Integer size,
+            
+            @Parameter(description = "커서 (이전 응답의 nextCursor). 전달하면 page는 무시되며, 빈 값이면 첫 페이지")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "커서 기반 조회에서 전체 건수(totalElements, totalPages) 포함 여부")
+            @RequestParam(required = false, defaultValue = "false") Boolean includeTotal,
+            
+            @Parameter(description = "오타 허용 검색 여부. 단어 단위로 편집 거리 1~2 이내의 제목/저자 단어를 찾습니다")
+            @RequestParam(required = false, defaultValue = "false") Boolean fuzzy,
+            
+            @Parameter(description = "정렬 기준. id(기본값, 등록순) 또는 relevance(검색어 관련도순, 커서 기반 조회 불가)")
+            @RequestParam(required = false, defaultValue = "id") String sort
     ) {
         // URL 디코딩 처리
         String decodedKeyword = decodeParam(keyword);
@@ -63,11 +78,33 @@ public class SearchController {
                 .author(decodedAuthor)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
+                .includeTotal(includeTotal)
+                .fuzzy(fuzzy)
+                .sort(sort)
                 .build();
 
         return ResponseEntity.ok(searchService.searchBooks(request));
     }
 
+    @Operation(
+        summary = "검색어 자동완성",
+        description = "접두어로 시작하는 도서 제목, 저자, 카테고리를 대출 횟수 순으로 조회합니다. DB를 조회하지 않습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<SearchDto.SuggestResponse> suggest(
+            @Parameter(description = "검색어 접두어. 한글일 경우 URL 인코딩 필요", required = true)
+            @RequestParam String prefix,
+            
+            @Parameter(description = "최대 결과 수 (최대 10)")
+            @RequestParam(required = false, defaultValue = "10") Integer size
+    ) {
+        return ResponseEntity.ok(searchService.suggest(decodeParam(prefix), size));
+    }
+
     /**
      * URL 인코딩된 파라미터를 디코딩합니다.
      */
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,12 +21,16 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
+@NaturalIdCache(region = "book-natural-id")
 public class Book {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String bookId;
     
@@ -55,11 +63,11 @@ public class Book {
     private LocalDateTime updatedAt;
     
     // 도서 생성을 위한 정적 팩토리 메서드
-    public static Book createBook(String title, String author, String isbn, 
+    public static Book createBook(String bookId, String title, String author, String isbn, 
                                 LocalDate publishedDate, String category, 
                                 Integer copiesAvailable, String description) {
         Book book = new Book();
-        book.setBookId("b" + System.currentTimeMillis());
+        book.setBookId(bookId);
         book.setTitle(title);
         book.setAuthor(author);
         book.setIsbn(isbn);
@@ -0,0 +1,27 @@
+package com.library.domain.book;
+
+/**
+ * 도서 변경 이벤트
+ * 도서가 등록, 수정, 삭제될 때 발행되며 변경 전/후 스냅샷을 함께 전달합니다.
+ * 등록 이벤트의 before, 삭제 이벤트의 after는 null 입니다.
+ */
+public record BookChangedEvent(Type type, BookSnapshot before, BookSnapshot after) {
+
+    public enum Type {
+        CREATED,   // 등록
+        UPDATED,   // 수정
+        DELETED    // 삭제
+    }
+
+    public static BookChangedEvent created(BookSnapshot after) {
+        return new BookChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static BookChangedEvent updated(BookSnapshot before, BookSnapshot after) {
+        return new BookChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static BookChangedEvent deleted(BookSnapshot before) {
+        return new BookChangedEvent(Type.DELETED, before, null);
+    }
+}
@@ -0,0 +1,39 @@
+package com.library.domain.book;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 도서 엔티티의 불변 스냅샷
+ * 영속성 컨텍스트 밖(트랜잭션 커밋 이후, 인메모리 인덱스 등)에서 도서 정보를 안전하게 전달하기 위해 사용합니다.
+ */
+public record BookSnapshot(
+        Long id,
+        String bookId,
+        String title,
+        String author,
+        String isbn,
+        LocalDate publishedDate,
+        String category,
+        Integer copiesAvailable,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static BookSnapshot from(Book book) {
+        return new BookSnapshot(
+                book.getId(),
+                book.getBookId(),
+                book.getTitle(),
+                book.getAuthor(),
+                book.getIsbn(),
+                book.getPublishedDate(),
+                book.getCategory(),
+                book.getCopiesAvailable(),
+                book.getDescription(),
+                book.getCreatedAt(),
+                book.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.library.domain.book;
+
+import java.time.LocalDate;
+
+/**
+ * 도서 목록 조회용 프로젝션
+ * 목록 응답(BookDto.SimpleResponse)에 필요한 컬럼만 조회하여 바로 담습니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 등록되지 않고 변경 감지용 스냅샷도 만들어지지 않으며,
+ * 설명(description)처럼 목록에 쓰지 않는 큰 컬럼은 DB에서 읽지 않습니다.
+ */
+public record BookSummary(
+        Long id,
+        String bookId,
+        String title,
+        String author,
+        String category,
+        Integer copiesAvailable,
+        LocalDate publishedDate,
+        String isbn
+) {
+
+    /**
+     * JPQL 생성자 표현식에 사용할 select 절 (별칭 b)
+     */
+    public static final String SELECT = "SELECT new com.library.domain.book.BookSummary("
+            + "b.id, b.bookId, b.title, b.author, b.category, b.copiesAvailable, b.publishedDate, b.isbn) ";
+}
@@ -59,9 +59,9 @@ public class Loan {
     private LocalDateTime updatedAt;
     
     // 대출 생성을 위한 정적 팩토리 메서드
-    public static Loan createLoan(User user, Book book, LocalDate loanDate, LocalDate dueDate) {
+    public static Loan createLoan(String loanId, User user, Book book, LocalDate loanDate, LocalDate dueDate) {
         Loan loan = new Loan();
-        loan.setLoanId("l" + System.currentTimeMillis());
+        loan.setLoanId(loanId);
         loan.setUser(user);
         loan.setBook(book);
         loan.setLoanDate(loanDate);
@@ -70,12 +70,6 @@ public class Loan {
         return loan;
     }
     
-    // 도서 반납 처리
-    public void returnBook(LocalDateTime returnedAt) {
-        this.status = LoanStatus.RETURNED;
-        this.returnedAt = returnedAt;
-    }
-    
     // 대출 연장 처리 메서드 추가
     public void extendLoan(int days) {
         if (status != LoanStatus.LOANED) {
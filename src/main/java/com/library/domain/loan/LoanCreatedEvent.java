@@ -0,0 +1,12 @@
+package com.library.domain.loan;
+
+import com.library.domain.book.BookSnapshot;
+
+import java.time.LocalDate;
+
+/**
+ * 대출 생성 이벤트
+ * 대출된 도서의 대출 후(재고 차감 후) 스냅샷과 반납 예정일을 전달합니다.
+ */
+public record LoanCreatedEvent(String loanId, LocalDate dueDate, BookSnapshot book) {
+}
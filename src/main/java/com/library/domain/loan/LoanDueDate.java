@@ -0,0 +1,9 @@
+package com.library.domain.loan;
+
+import java.time.LocalDate;
+
+/**
+ * 대출 중인 대출의 반납 예정일 (연체 전환 타이머 적재용 프로젝션)
+ */
+public record LoanDueDate(Long id, String loanId, LocalDate dueDate) {
+}
@@ -0,0 +1,10 @@
+package com.library.domain.loan;
+
+import java.time.LocalDate;
+
+/**
+ * 대출 연장 이벤트
+ * 연장 후의 반납 예정일을 전달합니다.
+ */
+public record LoanExtendedEvent(String loanId, LocalDate dueDate) {
+}
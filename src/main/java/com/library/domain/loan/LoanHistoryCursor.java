@@ -0,0 +1,49 @@
+package com.library.domain.loan;
+
+import com.library.exception.BusinessException;
+import com.library.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 대출 이력 커서(keyset)
+ * 대출 이력은 대출일 최신순(같은 날이면 id 역순)으로 조회하므로, 커서는 직전 페이지 마지막 대출의 대출일과 id(PK)입니다.
+ * 클라이언트에는 불투명 문자열로 전달하며, 클라이언트는 값을 해석하지 않고 그대로 돌려보냅니다.
+ */
+public record LoanHistoryCursor(LocalDate loanDate, long id) {
+
+    private static final String PREFIX = "loan:";
+
+    public static LoanHistoryCursor from(LoanSummary loan) {
+        return new LoanHistoryCursor(loan.loanDate(), loan.id());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + loanDate + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 변환합니다. 빈 커서는 첫 페이지(null)를 의미합니다.
+     */
+    public static LoanHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(':');
+            if (!decoded.startsWith(PREFIX) || separator <= PREFIX.length()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 대출 이력 커서입니다.");
+            }
+            return new LoanHistoryCursor(LocalDate.parse(decoded.substring(PREFIX.length(), separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 대출 이력 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.library.domain.loan;
+
+import com.library.domain.book.BookSnapshot;
+
+/**
+ * 대출 반납 이벤트
+ * 반납된 도서의 반납 후(재고 증가 후) 스냅샷을 전달합니다.
+ */
+public record LoanReturnedEvent(String loanId, BookSnapshot book) {
+}
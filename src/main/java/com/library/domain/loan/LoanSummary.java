@@ -0,0 +1,27 @@
+package com.library.domain.loan;
+
+import java.time.LocalDate;
+
+/**
+ * 대출 목록 조회용 프로젝션
+ * 대출과 도서를 조인하여 목록 응답(LoanDto.SimpleResponse)에 필요한 컬럼만 한 번에 조회합니다.
+ * 대출마다 도서를 지연 로딩하지 않으며, id(PK)는 응답에 포함하지 않고 대출 이력 커서에만 사용합니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 등록되지 않습니다.
+ */
+public record LoanSummary(
+        Long id,
+        String loanId,
+        String bookId,
+        String bookTitle,
+        String bookAuthor,
+        LocalDate loanDate,
+        LocalDate dueDate,
+        LoanStatus status,
+        Integer extensionCount
+) {
+    /**
+     * JPQL 생성자 표현식에 사용할 select 절 (대출 별칭 l, 도서 별칭 b)
+     */
+    public static final String SELECT = "SELECT new com.library.domain.loan.LoanSummary("
+            + "l.id, l.loanId, b.bookId, b.title, b.author, l.loanDate, l.dueDate, l.status, l.extensionCount) ";
+}
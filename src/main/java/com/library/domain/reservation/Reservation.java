@@ -9,7 +9,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
 @Getter
@@ -40,8 +39,8 @@ public class Reservation extends BaseTimeEntity {
     private ReservationStatus status;
 
     @Builder
-    public Reservation(User user, Book book, LocalDateTime reservationDate, LocalDateTime expirationDate) {
-        this.reservationId = "r" + UUID.randomUUID().getMostSignificantBits();
+    public Reservation(String reservationId, User user, Book book, LocalDateTime reservationDate, LocalDateTime expirationDate) {
+        this.reservationId = reservationId;
         this.user = user;
         this.book = book;
         this.reservationDate = reservationDate;
@@ -49,14 +48,6 @@ public class Reservation extends BaseTimeEntity {
         this.status = ReservationStatus.RESERVED;
     }
 
-    public void cancel() {
-        this.status = ReservationStatus.CANCELLED;
-    }
-
-    public void complete() {
-        this.status = ReservationStatus.COMPLETED;
-    }
-
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expirationDate);
     }
@@ -1,6 +1,8 @@
 package com.library.dto.book;
 
 import com.library.domain.book.Book;
+import com.library.domain.book.BookSnapshot;
+import com.library.domain.book.BookSummary;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -77,6 +79,23 @@ public class BookDto {
             }
             return response;
         }
+        
+        public static Response from(BookSnapshot book) {
+            Response response = new Response();
+            response.setBookId(book.bookId());
+            response.setTitle(book.title());
+            response.setAuthor(book.author());
+            response.setIsbn(book.isbn());
+            response.setPublishedDate(book.publishedDate());
+            response.setCategory(book.category());
+            response.setCopiesAvailable(book.copiesAvailable());
+            response.setDescription(book.description());
+            response.setCreatedAt(book.createdAt().toString());
+            if (book.updatedAt() != null) {
+                response.setUpdatedAt(book.updatedAt().toString());
+            }
+            return response;
+        }
     }
     
     @Data
@@ -100,5 +119,17 @@ public class BookDto {
             response.setIsbn(book.getIsbn());
             return response;
         }
+        
+        public static SimpleResponse from(BookSummary book) {
+            SimpleResponse response = new SimpleResponse();
+            response.setBookId(book.bookId());
+            response.setTitle(book.title());
+            response.setAuthor(book.author());
+            response.setCategory(book.category());
+            response.setCopiesAvailable(book.copiesAvailable());
+            response.setPublishedDate(book.publishedDate());
+            response.setIsbn(book.isbn());
+            return response;
+        }
     }
 } 
\ No newline at end of file
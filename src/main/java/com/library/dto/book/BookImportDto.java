@@ -0,0 +1,42 @@
+package com.library.dto.book;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class BookImportDto {
+
+    @Getter
+    @NoArgsConstructor
+    public static class Response {
+        private long totalRows;
+        private long imported;
+        private long failed;
+        private List<RowError> errors;   // 실패한 행별 사유 (행 번호 순)
+
+        @Builder
+        public Response(long totalRows, long imported, long failed, List<RowError> errors) {
+            this.totalRows = totalRows;
+            this.imported = imported;
+            this.failed = failed;
+            this.errors = errors;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class RowError {
+        private long line;      // 업로드 파일의 행 번호 (1부터 시작, CSV 헤더 포함)
+        private String isbn;
+        private String message;
+
+        @Builder
+        public RowError(long line, String isbn, String message) {
+            this.line = line;
+            this.isbn = isbn;
+            this.message = message;
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.library.dto.loan;
 
 import com.library.domain.loan.Loan;
 import com.library.domain.loan.LoanStatus;
+import com.library.domain.loan.LoanSummary;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class LoanDto {
     
@@ -25,6 +29,38 @@ public class LoanDto {
         private LocalDate dueDate;
     }
     
+    /**
+     * 여러 권 대출 요청 (키오스크 등에서 한 사용자가 여러 권을 한 번에 대출)
+     */
+    @Data
+    public static class BatchCreateRequest {
+        @NotBlank(message = "사용자 ID는 필수입니다")
+        private String userId;
+        
+        @NotEmpty(message = "도서 ID 목록은 필수입니다")
+        @Size(max = 5, message = "한 번에 최대 5권까지 대출할 수 있습니다")
+        private List<@NotBlank(message = "도서 ID는 필수입니다") String> bookIds;
+        
+        @NotNull(message = "대출일은 필수입니다")
+        private LocalDate loanDate;
+        
+        @NotNull(message = "반납 예정일은 필수입니다")
+        private LocalDate dueDate;
+    }
+    
+    /**
+     * 여러 권 반납 요청 (한 사용자의 대출 여러 건을 한 번에 반납)
+     */
+    @Data
+    public static class BatchReturnRequest {
+        @NotBlank(message = "사용자 ID는 필수입니다")
+        private String userId;
+        
+        @NotEmpty(message = "대출 ID 목록은 필수입니다")
+        @Size(max = 5, message = "한 번에 최대 5건까지 반납할 수 있습니다")
+        private List<@NotBlank(message = "대출 ID는 필수입니다") String> loanIds;
+    }
+    
     @Data
     public static class ReturnRequest {
         @NotNull(message = "반납일은 필수입니다")
@@ -93,5 +129,75 @@ public class LoanDto {
             response.setExtensionCount(loan.getExtensionCount());
             return response;
         }
+        
+        public static SimpleResponse from(LoanSummary loan) {
+            SimpleResponse response = new SimpleResponse();
+            response.setLoanId(loan.loanId());
+            response.setBookId(loan.bookId());
+            response.setBookTitle(loan.bookTitle());
+            response.setBookAuthor(loan.bookAuthor());
+            response.setLoanDate(loan.loanDate());
+            response.setDueDate(loan.dueDate());
+            response.setStatus(loan.status());
+            response.setExtensionCount(loan.extensionCount());
+            return response;
+        }
+    }
+    
+    /**
+     * 대출 이력 한 페이지 (대출일 최신순)
+     */
+    @Data
+    public static class HistoryResponse {
+        private List<SimpleResponse> loans;
+        private boolean hasNext;
+        private String nextCursor;      // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    }
+    
+    /**
+     * 여러 권 대출/반납 결과 (요청 순서대로 항목별 성공 여부)
+     */
+    @Data
+    public static class BatchResponse {
+        private String userId;
+        private int succeeded;
+        private int failed;
+        private List<BatchItemResult> results;
+        
+        public static BatchResponse of(String userId, List<BatchItemResult> results) {
+            BatchResponse response = new BatchResponse();
+            response.setUserId(userId);
+            response.setResults(results);
+            response.setSucceeded((int) results.stream().filter(BatchItemResult::isSuccess).count());
+            response.setFailed(results.size() - response.getSucceeded());
+            return response;
+        }
+    }
+    
+    @Data
+    public static class BatchItemResult {
+        private String bookId;
+        private String loanId;
+        private boolean success;
+        private LocalDate dueDate;
+        private String message;
+        
+        public static BatchItemResult success(String bookId, String loanId, LocalDate dueDate) {
+            BatchItemResult result = new BatchItemResult();
+            result.setBookId(bookId);
+            result.setLoanId(loanId);
+            result.setSuccess(true);
+            result.setDueDate(dueDate);
+            return result;
+        }
+        
+        public static BatchItemResult failure(String bookId, String loanId, String message) {
+            BatchItemResult result = new BatchItemResult();
+            result.setBookId(bookId);
+            result.setLoanId(loanId);
+            result.setSuccess(false);
+            result.setMessage(message);
+            return result;
+        }
     }
 } 
\ No newline at end of file
@@ -12,19 +12,47 @@ public class SearchDto {
     @Getter
     @NoArgsConstructor
     public static class SearchRequest {
+        public static final String SORT_ID = "id";
+        public static final String SORT_RELEVANCE = "relevance";
+
         private String keyword;
         private String category;
         private String author;
         private Integer page;
         private Integer size;
+        private String cursor;          // null이면 page 기반, 빈 문자열이면 커서 기반 첫 페이지
+        private boolean includeTotal;   // 커서 기반 조회에서 전체 건수 집계 여부
+        private boolean fuzzy;          // 오타 허용 검색 여부
+        private String sort;            // id(기본값, 등록순) 또는 relevance(관련도순)
 
         @Builder
-        public SearchRequest(String keyword, String category, String author, Integer page, Integer size) {
+        public SearchRequest(String keyword, String category, String author, Integer page, Integer size,
+                             String cursor, Boolean includeTotal, Boolean fuzzy, String sort) {
             this.keyword = keyword;
             this.category = category;
             this.author = author;
             this.page = page != null ? page : 0;
             this.size = size != null ? size : 10;
+            this.cursor = cursor;
+            this.includeTotal = includeTotal != null && includeTotal;
+            this.fuzzy = fuzzy != null && fuzzy;
+            this.sort = sort != null && !sort.isBlank() ? sort.trim().toLowerCase() : SORT_ID;
+        }
+
+        public boolean isCursorMode() {
+            return cursor != null;
+        }
+
+        public boolean isRelevanceSort() {
+            return SORT_RELEVANCE.equals(sort);
+        }
+
+        /**
+         * 전체 건수(totalElements, totalPages)를 응답에 포함해야 하는지 여부
+         * page 기반 조회는 항상 포함하고, 커서 기반 조회는 요청한 경우에만 포함합니다.
+         */
+        public boolean shouldCountTotal() {
+            return !isCursorMode() || includeTotal;
         }
     }
 
@@ -32,16 +60,79 @@ public class SearchDto {
     @NoArgsConstructor
     public static class SearchResponse {
         private List<BookDto.SimpleResponse> books;
-        private long totalElements;
-        private int totalPages;
+        private Long totalElements;     // 커서 기반 조회에서 집계를 생략하면 null
+        private Integer totalPages;     // 커서 기반 조회에서 집계를 생략하면 null
         private boolean hasNext;
+        private String nextCursor;      // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        private Facets facets;          // 전체 검색 결과의 항목별 건수 (전체 건수를 집계하지 않는 경우 null)
 
         @Builder
-        public SearchResponse(List<BookDto.SimpleResponse> books, long totalElements, int totalPages, boolean hasNext) {
+        public SearchResponse(List<BookDto.SimpleResponse> books, Long totalElements, Integer totalPages,
+                              boolean hasNext, String nextCursor, Facets facets) {
             this.books = books;
             this.totalElements = totalElements;
             this.totalPages = totalPages;
             this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+            this.facets = facets;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Facets {
+        private List<FacetCount> categories;    // 카테고리별 건수 (건수 내림차순)
+        private List<FacetCount> decades;       // 출판 연대별 건수 (예: 1990s, 연대 오름차순)
+        private long available;                 // 대출 가능한 도서 수
+        private long unavailable;               // 대출 불가능한 도서 수
+
+        @Builder
+        public Facets(List<FacetCount> categories, List<FacetCount> decades, long available, long unavailable) {
+            this.categories = categories;
+            this.decades = decades;
+            this.available = available;
+            this.unavailable = unavailable;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+
+        @Builder
+        public FacetCount(String value, long count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Suggestion {
+        private String text;
+        private String type;        // TITLE, AUTHOR, CATEGORY
+        private long loanCount;
+
+        @Builder
+        public Suggestion(String text, String type, long loanCount) {
+            this.text = text;
+            this.type = type;
+            this.loanCount = loanCount;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class SuggestResponse {
+        private String prefix;
+        private List<Suggestion> suggestions;
+
+        @Builder
+        public SuggestResponse(String prefix, List<Suggestion> suggestions) {
+            this.prefix = prefix;
+            this.suggestions = suggestions;
         }
     }
-} 
\ No newline at end of file
+}
@@ -11,6 +11,7 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "Invalid input value"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "Internal server error"),
+    ID_NODE_LEASE_EXPIRED(HttpStatus.SERVICE_UNAVAILABLE, "C003", "ID generator node lease has expired"),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "User not found"),
@@ -24,6 +25,7 @@ public enum ErrorCode {
     BOOK_ALREADY_RESERVED(HttpStatus.CONFLICT, "B003", "Book is already reserved"),
     BOOK_HAS_ACTIVE_LOANS(HttpStatus.CONFLICT, "B004", "Book has active loans"),
     BOOK_HAS_RESERVATIONS(HttpStatus.CONFLICT, "B005", "Book has active reservations"),
+    BOOK_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "B006", "Too many concurrent requests for this book"),
 
     // Reservation
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "Reservation not found"),
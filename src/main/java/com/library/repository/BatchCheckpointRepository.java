@@ -0,0 +1,44 @@
+package com.library.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 배치 작업 체크포인트 JDBC Repository
+ *
+ * 작업별로 실행 기준일과 마지막으로 처리한 id를 batch_checkpoints 테이블에 기록합니다.
+ * 청크 처리와 같은 트랜잭션에서 저장하므로, 중단되더라도 커밋된 청크 다음부터 다시 시작할 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Checkpoint(LocalDate runDate, long lastId) {
+    }
+
+    public Optional<Checkpoint> find(String jobName) {
+        return jdbcTemplate.query("SELECT run_date, last_id FROM batch_checkpoints WHERE job_name = ?",
+                (resultSet, rowNum) -> new Checkpoint(resultSet.getDate("run_date").toLocalDate(), resultSet.getLong("last_id")),
+                jobName).stream().findFirst();
+    }
+
+    public void save(String jobName, LocalDate runDate, long lastId) {
+        int updated = jdbcTemplate.update("UPDATE batch_checkpoints SET run_date = ?, last_id = ? WHERE job_name = ?",
+                Date.valueOf(runDate), lastId, jobName);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO batch_checkpoints (job_name, run_date, last_id) VALUES (?, ?, ?)",
+                    jobName, Date.valueOf(runDate), lastId);
+        }
+    }
+
+    public void delete(String jobName) {
+        jdbcTemplate.update("DELETE FROM batch_checkpoints WHERE job_name = ?", jobName);
+    }
+}
@@ -0,0 +1,120 @@
+package com.library.repository;
+
+import com.library.domain.book.BookSnapshot;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 도서 일괄 등록용 JDBC Repository
+ *
+ * books.id가 IDENTITY 방식이라 Hibernate는 INSERT를 배치로 묶지 못하므로, JDBC 배치로 직접 등록합니다.
+ * MySQL은 JDBC URL의 rewriteBatchedStatements=true 설정으로 배치가 다중 행 INSERT 한 번으로 전송됩니다.
+ * Hibernate를 거치지 않은 INSERT는 쿼리 캐시(ISBN 조회)를 무효화하지 않으므로, 커밋 후 쿼리 캐시를 직접 비웁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBatchRepository {
+
+    private static final String INSERT_BOOK = "INSERT INTO books "
+            + "(book_id, title, author, isbn, published_date, category, copies_available, description, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 주어진 ISBN 중 이미 등록된 ISBN을 쿼리 한 번으로 조회합니다.
+     */
+    public Set<String> findExistingIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT isbn FROM books WHERE isbn IN (:isbns)", Map.of("isbns", isbns), String.class));
+    }
+
+    /**
+     * 도서를 JDBC 배치 한 번으로 등록하고, 생성된 PK를 채운 스냅샷을 입력 순서대로 반환합니다.
+     * 호출하는 쪽의 트랜잭션에 참여하므로 중복 키 등으로 실패하면 배치 전체가 롤백됩니다.
+     *
+     * @param books id가 비어 있는 등록할 도서 스냅샷
+     */
+    public List<BookSnapshot> insertAll(List<BookSnapshot> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        evictQueryCacheAfterCommit();
+        return namedParameterJdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<BookSnapshot>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_BOOK, Statement.RETURN_GENERATED_KEYS)) {
+                for (BookSnapshot book : books) {
+                    statement.setString(1, book.bookId());
+                    statement.setString(2, book.title());
+                    statement.setString(3, book.author());
+                    statement.setString(4, book.isbn());
+                    statement.setDate(5, Date.valueOf(book.publishedDate()));
+                    statement.setString(6, book.category());
+                    statement.setInt(7, book.copiesAvailable());
+                    if (book.description() != null) {
+                        statement.setString(8, book.description());
+                    } else {
+                        statement.setNull(8, Types.VARCHAR);
+                    }
+                    statement.setTimestamp(9, Timestamp.valueOf(book.createdAt()));
+                    statement.setTimestamp(10, Timestamp.valueOf(book.updatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<BookSnapshot> inserted = new ArrayList<>(books.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (BookSnapshot book : books) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("생성된 도서 id를 확인할 수 없습니다.");
+                        }
+                        inserted.add(new BookSnapshot(keys.getLong(1), book.bookId(), book.title(), book.author(),
+                                book.isbn(), book.publishedDate(), book.category(), book.copiesAvailable(),
+                                book.description(), book.createdAt(), book.updatedAt()));
+                    }
+                }
+                return inserted;
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 쿼리 캐시를 비웁니다.
+     * 커밋 전에 비우면 그 사이 다른 요청이 등록 전 결과(ISBN 없음)를 다시 캐시할 수 있습니다.
+     */
+    private void evictQueryCacheAfterCommit() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evictQueryRegions();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictQueryRegions();
+            }
+        });
+    }
+}
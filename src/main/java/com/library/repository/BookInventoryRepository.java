@@ -0,0 +1,46 @@
+package com.library.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서 재고 변경용 JDBC Repository
+ *
+ * JPQL 일괄 UPDATE는 실행할 때마다 Hibernate가 Book 2차 캐시 영역 전체를 비우므로,
+ * 대출/반납마다 모든 도서의 캐시가 사라지지 않도록 재고 변경은 JDBC로 직접 실행합니다.
+ * 호출하는 쪽은 같은 트랜잭션 안에서 EntityManager.refresh로 도서를 다시 읽어야 하며,
+ * refresh가 해당 도서의 2차 캐시 항목만 커밋 때까지 잠그고 제거합니다.
+ * (Hibernate를 거치지 않으므로 books 쿼리 캐시는 무효화되지 않지만, 쿼리 캐시는 재고와 무관한 ISBN 조회에만 사용합니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookInventoryRepository {
+
+    private static final String DECREMENT =
+            "UPDATE books SET copies_available = copies_available - 1 WHERE id = ? AND copies_available > 0";
+    private static final String INCREMENT =
+            "UPDATE books SET copies_available = copies_available + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고가 남아 있을 때만 대출 가능 수량을 1 줄입니다.
+     * 확인과 차감을 조건부 UPDATE 한 번으로 처리하므로 동시에 대출해도 재고가 0 아래로 내려가지 않습니다.
+     *
+     * @return 변경된 행 수 (0이면 재고 없음)
+     */
+    public int decrementCopiesAvailable(Long id) {
+        return jdbcTemplate.update(DECREMENT, id);
+    }
+
+    /**
+     * 대출 가능 수량을 1 늘립니다. 읽은 값에 더해 쓰지 않으므로 동시 반납이 서로 덮어쓰지 않습니다.
+     * 같은 대출이 두 번 반영되지 않도록 호출하는 쪽은 먼저 대출을 조건부로 반납 처리(LoanRepository.markReturned)해야 합니다.
+     *
+     * @return 변경된 행 수
+     */
+    public int incrementCopiesAvailable(Long id) {
+        return jdbcTemplate.update(INCREMENT, id);
+    }
+}
@@ -1,36 +1,75 @@
 package com.library.repository;
 
 import com.library.domain.book.Book;
+import com.library.domain.book.BookSummary;
 import com.library.domain.reservation.ReservationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
-    Optional<Book> findByBookId(String bookId);
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
+    // ISBN은 자연 키(bookId)가 아니므로 쿼리 캐시로 반복 조회를 줄임 (Hibernate를 통한 books 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Book> findByIsbn(String isbn);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByIsbn(String isbn);
     List<Book> findByCategory(String category);
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
-    @Query("SELECT b FROM Book b WHERE " +
-           "(:keyword IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "(:category IS NULL OR b.category = :category) AND " +
-           "(:author IS NULL OR LOWER(b.author) LIKE LOWER(CONCAT('%', :author, '%')))")
-    Page<Book> searchBooks(
+    String SEARCH_CONDITION =
+            "(:keyword IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:category IS NULL OR b.category = :category) AND " +
+            "(:author IS NULL OR LOWER(b.author) LIKE LOWER(CONCAT('%', :author, '%')))";
+
+    // 목록 조회용 프로젝션: 목록 응답에 필요한 컬럼만 조회하며 엔티티로 관리하지 않음
+    @Query(BookSummary.SELECT + "FROM Book b ORDER BY b.id")
+    List<BookSummary> findAllSummaries();
+
+    @Query(BookSummary.SELECT + "FROM Book b WHERE b.category = :category ORDER BY b.id")
+    List<BookSummary> findSummariesByCategory(@Param("category") String category);
+
+    @Query(BookSummary.SELECT + "FROM Book b WHERE b.id IN :ids")
+    List<BookSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = BookSummary.SELECT + "FROM Book b WHERE " + SEARCH_CONDITION,
+           countQuery = "SELECT COUNT(b) FROM Book b WHERE " + SEARCH_CONDITION)
+    Page<BookSummary> searchBooks(
             @Param("keyword") String keyword,
             @Param("category") String category,
             @Param("author") String author,
             Pageable pageable
     );
 
+    // 커서(keyset) 기반 검색: PK 이후 구간만 읽으며 COUNT 쿼리를 실행하지 않음
+    @Query(BookSummary.SELECT + "FROM Book b WHERE b.id > :lastId AND " + SEARCH_CONDITION + " ORDER BY b.id")
+    Slice<BookSummary> searchBooksAfter(
+            @Param("keyword") String keyword,
+            @Param("category") String category,
+            @Param("author") String author,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(b) FROM Book b WHERE " + SEARCH_CONDITION)
+    long countSearchBooks(
+            @Param("keyword") String keyword,
+            @Param("category") String category,
+            @Param("author") String author
+    );
+
     @Query("SELECT b.category as category, COUNT(b) as count FROM Book b GROUP BY b.category")
     List<Object[]> countBooksByCategory();
 
@@ -42,6 +81,23 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     @Query("SELECT b FROM Book b WHERE b.copiesAvailable = 0")
     List<Book> findBooksAvailableForReservation();
+
+    /**
+     * 예약 가능한 도서(대출 가능 재고 0)와 예약 대기열 요약을 한 번의 쿼리로 조회합니다.
+     * 결과 행: [도서, 대기 중인 예약 수, 사용자의 대기 예약 수, 사용자보다 먼저 예약한 대기 예약 수]
+     * userId가 null이면 사용자 관련 값은 0입니다.
+     */
+    @Query("SELECT b, " +
+           "COUNT(DISTINCT r.reservationId), " +
+           "COUNT(DISTINCT mine.reservationId), " +
+           "COUNT(DISTINCT CASE WHEN r.reservationDate < mine.reservationDate THEN r.reservationId END) " +
+           "FROM Book b " +
+           "LEFT JOIN User me ON me.userId = :userId " +
+           "LEFT JOIN Reservation r ON r.book = b AND r.status = :status " +
+           "LEFT JOIN Reservation mine ON mine.book = b AND mine.status = :status AND mine.user = me " +
+           "WHERE b.copiesAvailable = 0 " +
+           "GROUP BY b")
+    List<Object[]> findReservationQueueSummaries(@Param("userId") String userId, @Param("status") ReservationStatus status);
     
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.book = :book AND r.status = :status")
     long countReservationsByBookAndStatus(@Param("book") Book book, @Param("status") ReservationStatus status);
@@ -0,0 +1,17 @@
+package com.library.repository;
+
+import com.library.domain.book.Book;
+
+import java.util.Optional;
+
+/**
+ * 도서 자연 키(bookId) 조회
+ */
+public interface BookRepositoryCustom {
+
+    /**
+     * bookId로 도서를 조회합니다.
+     * 자연 키 캐시와 2차 캐시를 거치므로 반복 조회 시 SQL을 실행하지 않습니다.
+     */
+    Optional<Book> findByBookId(String bookId);
+}
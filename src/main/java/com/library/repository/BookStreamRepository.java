@@ -0,0 +1,45 @@
+package com.library.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 전체 도서 스트리밍 조회용 JDBC Repository
+ *
+ * 엔티티나 결과 목록을 만들지 않고 전방향(forward-only) 커서로 한 행씩 읽어 전달하므로,
+ * 도서 수와 관계없이 메모리 사용량이 일정합니다.
+ * MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 행 단위 스트리밍을 하므로 DB 종류에 따라 값을 달리 설정합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookStreamRepository {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String SELECT_ALL_BOOKS =
+            "SELECT book_id, title, author, category, copies_available, published_date, isbn FROM books ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 도서를 id 순으로 한 행씩 읽어 handler에 전달합니다.
+     * 스트리밍이 끝날 때까지 DB 커넥션 하나를 사용합니다.
+     */
+    public void forEachBook(RowCallbackHandler handler) {
+        jdbcTemplate.query(this::prepareForwardOnly, handler);
+    }
+
+    private PreparedStatement prepareForwardOnly(Connection connection) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(
+                SELECT_ALL_BOOKS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        statement.setFetchSize(mysql ? Integer.MIN_VALUE : FETCH_SIZE);
+        return statement;
+    }
+}
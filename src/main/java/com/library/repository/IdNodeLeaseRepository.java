@@ -0,0 +1,59 @@
+package com.library.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * ID 생성기 노드 번호 임대 JDBC Repository
+ *
+ * id_node_leases 테이블에 노드 번호별 임대 인스턴스(owner)와 마지막 갱신 시각을 기록합니다.
+ * 임대와 갱신은 조건부 UPDATE/INSERT 한 번으로 처리하므로, 여러 인스턴스가 같은 번호를 동시에 요청해도 하나만 성공합니다.
+ * 트랜잭션 없이 문장마다 바로 커밋됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdNodeLeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 노드 번호가 비어 있거나, 이미 이 인스턴스의 것이거나, 임대가 만료(마지막 갱신이 expiredBefore 이전)되었을 때만 임대합니다.
+     *
+     * @return 임대했으면 true, 다른 인스턴스가 사용 중이면 false
+     */
+    public boolean tryAcquire(int nodeId, String owner, LocalDateTime now, LocalDateTime expiredBefore) {
+        int updated = jdbcTemplate.update("UPDATE id_node_leases SET owner = ?, renewed_at = ? "
+                + "WHERE node_id = ? AND (owner = ? OR renewed_at < ?)",
+                owner, Timestamp.valueOf(now), nodeId, owner, Timestamp.valueOf(expiredBefore));
+        if (updated == 1) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO id_node_leases (node_id, owner, renewed_at) VALUES (?, ?, ?)",
+                    nodeId, owner, Timestamp.valueOf(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 사용 중이거나 방금 임대함
+            return false;
+        }
+    }
+
+    /**
+     * 이 인스턴스가 임대 중일 때만 갱신 시각을 바꿉니다.
+     *
+     * @return 갱신했으면 true, 임대가 다른 인스턴스로 넘어갔으면 false
+     */
+    public boolean renew(int nodeId, String owner, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE id_node_leases SET renewed_at = ? WHERE node_id = ? AND owner = ?",
+                Timestamp.valueOf(now), nodeId, owner) == 1;
+    }
+
+    public void release(int nodeId, String owner) {
+        jdbcTemplate.update("DELETE FROM id_node_leases WHERE node_id = ? AND owner = ?", nodeId, owner);
+    }
+}
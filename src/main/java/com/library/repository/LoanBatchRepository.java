@@ -0,0 +1,71 @@
+package com.library.repository;
+
+import com.library.domain.loan.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대출 일괄 등록용 JDBC Repository
+ *
+ * loans.id가 IDENTITY 방식이라 Hibernate는 INSERT를 배치로 묶지 못하므로, 여러 권 대출은 JDBC 배치로 직접 등록합니다.
+ * MySQL은 JDBC URL의 rewriteBatchedStatements=true 설정으로 배치가 다중 행 INSERT 한 번으로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoanBatchRepository {
+
+    private static final String INSERT_LOAN = "INSERT INTO loans "
+            + "(loan_id, user_id, book_id, loan_date, due_date, status, extension_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 등록할 대출
+     *
+     * @param userId users.id (PK)
+     * @param bookId books.id (PK)
+     */
+    public record NewLoan(String loanId, Long userId, Long bookId, LocalDate loanDate, LocalDate dueDate) {
+    }
+
+    /**
+     * 대출 중 상태의 대출을 JDBC 배치 한 번으로 등록합니다.
+     * 호출하는 쪽의 트랜잭션에 참여하므로 실패하면 배치 전체가 롤백됩니다.
+     */
+    public void insertAll(List<NewLoan> loans, LocalDateTime now) {
+        if (loans.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_LOAN, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                NewLoan loan = loans.get(i);
+                statement.setString(1, loan.loanId());
+                statement.setLong(2, loan.userId());
+                statement.setLong(3, loan.bookId());
+                statement.setDate(4, Date.valueOf(loan.loanDate()));
+                statement.setDate(5, Date.valueOf(loan.dueDate()));
+                statement.setString(6, LoanStatus.LOANED.name());
+                statement.setTimestamp(7, timestamp);
+                statement.setTimestamp(8, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return loans.size();
+            }
+        });
+    }
+}
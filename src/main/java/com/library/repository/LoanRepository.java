@@ -1,30 +1,152 @@
 package com.library.repository;
 
 import com.library.domain.loan.Loan;
+import com.library.domain.loan.LoanDueDate;
+import com.library.domain.loan.LoanSummary;
 import com.library.domain.loan.LoanStatus;
 import com.library.domain.user.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, Long> {
     Optional<Loan> findByLoanId(String loanId);
+    
+    @Query("SELECT l.book.bookId FROM Loan l WHERE l.loanId = :loanId")
+    Optional<String> findBookIdByLoanId(@Param("loanId") String loanId);
+    
+    // 여러 권 반납: 잠글 도서 ID와 반납할 대출(도서 포함)을 각각 쿼리 한 번으로 조회
+    @Query("SELECT DISTINCT l.book.bookId FROM Loan l WHERE l.loanId IN :loanIds")
+    List<String> findBookIdsByLoanIdIn(@Param("loanIds") Collection<String> loanIds);
+    
+    @Query("SELECT l FROM Loan l JOIN FETCH l.book WHERE l.loanId IN :loanIds")
+    List<Loan> findWithBookByLoanIdIn(@Param("loanIds") Collection<String> loanIds);
+    
+    /**
+     * 반납되지 않은 대출일 때만 반납 처리합니다. 여러 인스턴스가 같은 대출을 동시에 반납해도 한 번만 변경됩니다.
+     *
+     * @return 변경된 행 수 (0이면 이미 반납됨)
+     */
+    @Modifying
+    @Query("UPDATE Loan l SET l.status = :returned, l.returnedAt = :now, l.updatedAt = :now " +
+           "WHERE l.loanId = :loanId AND l.status <> :returned")
+    int markReturned(@Param("loanId") String loanId, @Param("returned") LoanStatus returned,
+                     @Param("now") LocalDateTime now);
+    
+    /**
+     * 여러 권 반납: 사용자의 반납되지 않은 대출 행을 잠그고(SELECT ... FOR UPDATE) 대출 ID를 조회합니다.
+     * 도서를 조인하지 않으므로 도서 행은 잠그지 않으며, 재고 증가는 잠금 순서대로 이후에 실행합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l.loanId FROM Loan l WHERE l.loanId IN :loanIds AND l.user = :user AND l.status <> :returned")
+    List<String> lockUnreturnedLoanIds(@Param("loanIds") Collection<String> loanIds, @Param("user") User user,
+                                       @Param("returned") LoanStatus returned);
+    
+    /**
+     * 여러 권 반납: 반납되지 않은 대출만 한 번에 반납 처리합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Loan l SET l.status = :returned, l.returnedAt = :now, l.updatedAt = :now " +
+           "WHERE l.loanId IN :loanIds AND l.status <> :returned")
+    int markAllReturned(@Param("loanIds") Collection<String> loanIds, @Param("returned") LoanStatus returned,
+                        @Param("now") LocalDateTime now);
     List<Loan> findByUserUserId(String userId);
     List<Loan> findByUser(User user);
+    
+    // 목록 조회용 프로젝션: 도서를 조인하여 한 번에 필요한 컬럼만 조회
+    @Query(LoanSummary.SELECT + "FROM Loan l JOIN l.book b WHERE l.user.userId = :userId ORDER BY l.id")
+    List<LoanSummary> findSummariesByUserId(@Param("userId") String userId);
+    
+    String HISTORY_CONDITION =
+            "(:from IS NULL OR l.loanDate >= :from) AND (:to IS NULL OR l.loanDate <= :to) " +
+            "AND (:cursorDate IS NULL OR l.loanDate < :cursorDate OR (l.loanDate = :cursorDate AND l.id < :cursorId)) ";
+    
+    /**
+     * 사용자의 대출 이력을 대출일 최신순(같은 날이면 id 역순)으로 한 페이지 조회합니다.
+     * 도서를 조인한 프로젝션 쿼리 한 번으로 페이지를 읽으며, 커서(직전 페이지 마지막 대출의 대출일, id) 이후 구간만 읽습니다.
+     * from, to, cursorDate가 null이면 해당 조건은 적용하지 않습니다.
+     * 상태 조건이 없으므로 loans(user_id, loan_date) 인덱스 순서로 읽어 정렬 없이 한 페이지만 읽습니다.
+     */
+    @Query(LoanSummary.SELECT + "FROM Loan l JOIN l.book b WHERE l.user = :user AND " + HISTORY_CONDITION +
+           "ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanSummary> findHistory(@Param("user") User user,
+                                  @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                  @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+    
+    /**
+     * 상태별 대출 이력 한 페이지 (findHistory와 같은 순서/커서)
+     * 상태가 인덱스 앞쪽 조건으로 고정되므로 loans(user_id, status, loan_date) 인덱스 순서로 읽습니다.
+     */
+    @Query(LoanSummary.SELECT + "FROM Loan l JOIN l.book b WHERE l.user = :user AND l.status = :status AND " + HISTORY_CONDITION +
+           "ORDER BY l.loanDate DESC, l.id DESC")
+    List<LoanSummary> findHistoryByStatus(@Param("user") User user, @Param("status") LoanStatus status,
+                                          @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                          @Param("cursorDate") LocalDate cursorDate, @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
     List<Loan> findByBookBookId(String bookId);
     boolean existsByBookBookIdAndStatus(String bookId, LoanStatus status);
     
-    List<Loan> findByStatusAndDueDateBefore(LoanStatus status, LocalDate date);
+    /**
+     * afterId 다음부터 id 순으로 연체 대상(대출 중이고 반납 예정일이 지난) 대출 id를 조회합니다.
+     * 연체 처리 배치가 청크의 id 범위를 정하는 데 사용합니다.
+     */
+    @Query("SELECT l.id FROM Loan l WHERE l.status = :status AND l.dueDate < :today AND l.id > :afterId ORDER BY l.id")
+    List<Long> findOverdueCandidateIds(@Param("status") LoanStatus status, @Param("today") LocalDate today,
+                                       @Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * id 범위 (fromId, toId] 안의 연체 대상 대출을 UPDATE 한 번으로 연체 상태로 바꿉니다.
+     * 엔티티를 읽지 않으며, 일괄 UPDATE는 감사(auditing)를 거치지 않으므로 수정 시각을 직접 지정합니다.
+     *
+     * @return 연체 처리된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Loan l SET l.status = :overdue, l.updatedAt = :now " +
+           "WHERE l.id > :fromId AND l.id <= :toId AND l.status = :loaned AND l.dueDate < :today")
+    int markOverdueInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                           @Param("loaned") LoanStatus loaned, @Param("overdue") LoanStatus overdue,
+                           @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+    
+    /**
+     * afterId 다음부터 id 순으로 해당 상태인 대출의 반납 예정일을 조회합니다. (연체 전환 타이머 적재용)
+     */
+    @Query("SELECT new com.library.domain.loan.LoanDueDate(l.id, l.loanId, l.dueDate) " +
+           "FROM Loan l WHERE l.status = :status AND l.id > :afterId ORDER BY l.id")
+    List<LoanDueDate> findDueDatesAfter(@Param("status") LoanStatus status, @Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 주어진 대출 중 아직 대출 중이고 반납 예정일이 지난 대출을 UPDATE 한 번으로 연체 상태로 바꿉니다.
+     *
+     * @return 연체 처리된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Loan l SET l.status = :overdue, l.updatedAt = :now " +
+           "WHERE l.loanId IN :loanIds AND l.status = :loaned AND l.dueDate < :today")
+    int markOverdueByLoanIds(@Param("loanIds") Collection<String> loanIds,
+                             @Param("loaned") LoanStatus loaned, @Param("overdue") LoanStatus overdue,
+                             @Param("today") LocalDate today, @Param("now") LocalDateTime now);
     
     long countByUserAndStatusNot(User user, LoanStatus status);
     long countByStatus(LoanStatus status);
 
     @Query("SELECT COUNT(DISTINCT l.user.userId) FROM Loan l WHERE l.status = :status")
     long countDistinctUserIdByStatus(@Param("status") LoanStatus status);
+
+    @Query("SELECT l.book.id, COUNT(l) FROM Loan l GROUP BY l.book.id")
+    List<Object[]> countLoansGroupByBook();
 } 
\ No newline at end of file
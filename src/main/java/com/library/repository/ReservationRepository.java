@@ -5,8 +5,12 @@ import com.library.domain.reservation.Reservation;
 import com.library.domain.reservation.ReservationStatus;
 import com.library.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +29,17 @@ public interface ReservationRepository extends JpaRepository<Reservation, String
     // 추가된 메서드
     Optional<Reservation> findFirstByBookAndUserAndStatus(Book book, User user, ReservationStatus status);
     Optional<Reservation> findFirstByBookAndStatusOrderByReservationDateAsc(Book book, ReservationStatus status);
+    
+    /**
+     * 현재 상태가 from인 경우에만 예약 상태를 to로 바꿉니다.
+     * 같은 예약을 동시에 취소/완료해도 한 요청만 반영되므로, 반환값이 1일 때만 사용자 예약 수를 줄여야 합니다.
+     * 일괄 UPDATE는 감사(auditing)를 거치지 않으므로 수정 시각을 직접 지정합니다.
+     *
+     * @return 변경된 행 수 (0이면 이미 다른 상태)
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :to, r.updatedAt = :now " +
+           "WHERE r.reservationId = :reservationId AND r.status = :from")
+    int updateStatus(@Param("reservationId") String reservationId, @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to, @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
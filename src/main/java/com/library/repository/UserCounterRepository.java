@@ -0,0 +1,89 @@
+package com.library.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 대출/예약 건수 카운터 JDBC Repository
+ *
+ * users.active_loan_count(반납되지 않은 대출 수)와 users.active_reservation_count(대기 중인 예약 수)는
+ * 대출/예약 한도 확인을 위해 비정규화한 값으로, 대출/반납/예약/취소와 같은 트랜잭션에서 함께 변경합니다.
+ * 카운터는 User 엔티티에 매핑하지 않으므로, 변경해도 User 2차 캐시 항목이 무효화되지 않습니다.
+ * 한도 확인과 증가를 조건부 UPDATE 한 번으로 처리하므로, 같은 사용자가 서로 다른 도서를 동시에 대출해도 한도를 넘지 않습니다.
+ * 도서 재고 UPDATE(BookInventoryRepository)와 함께 쓸 때는 도서 행 다음에 사용자 행을 변경하여 행 잠금 순서를 맞춥니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCounterRepository {
+
+    private static final String ACTIVE_LOANS = "(SELECT COUNT(*) FROM loans l WHERE l.user_id = users.id AND l.status <> 'RETURNED')";
+    private static final String ACTIVE_RESERVATIONS = "(SELECT COUNT(*) FROM reservations r WHERE r.user_id = users.id AND r.status = 'RESERVED')";
+
+    private static final String REPAIR = "UPDATE users SET active_loan_count = " + ACTIVE_LOANS
+            + ", active_reservation_count = " + ACTIVE_RESERVATIONS
+            + " WHERE id > ? AND id <= ? AND (active_loan_count <> " + ACTIVE_LOANS
+            + " OR active_reservation_count <> " + ACTIVE_RESERVATIONS + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int findActiveLoanCount(Long userId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT active_loan_count FROM users WHERE id = ?", Integer.class, userId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 사용자 행을 잠그고(SELECT ... FOR UPDATE) 대출 수를 읽습니다. 트랜잭션이 끝날 때까지 다른 대출/반납의 카운터 변경이 대기합니다.
+     */
+    public int lockActiveLoanCount(Long userId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT active_loan_count FROM users WHERE id = ? FOR UPDATE", Integer.class, userId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 증가 후 값이 max 이하일 때만 대출 수를 count만큼 늘립니다.
+     *
+     * @return 늘렸으면 true, 한도를 넘으면 false
+     */
+    public boolean addActiveLoans(Long userId, int count, int max) {
+        return jdbcTemplate.update("UPDATE users SET active_loan_count = active_loan_count + ? "
+                + "WHERE id = ? AND active_loan_count + ? <= ?", count, userId, count, max) == 1;
+    }
+
+    public void subtractActiveLoans(Long userId, int count) {
+        jdbcTemplate.update("UPDATE users SET active_loan_count = GREATEST(active_loan_count - ?, 0) WHERE id = ?", count, userId);
+    }
+
+    /**
+     * 예약 수가 max 미만일 때만 1 늘립니다.
+     *
+     * @return 늘렸으면 true, 한도에 도달했으면 false
+     */
+    public boolean incrementActiveReservations(Long userId, int max) {
+        return jdbcTemplate.update("UPDATE users SET active_reservation_count = active_reservation_count + 1 "
+                + "WHERE id = ? AND active_reservation_count < ?", userId, max) == 1;
+    }
+
+    public void subtractActiveReservations(Long userId, int count) {
+        jdbcTemplate.update("UPDATE users SET active_reservation_count = GREATEST(active_reservation_count - ?, 0) WHERE id = ?",
+                count, userId);
+    }
+
+    /**
+     * afterId 다음부터 id 순으로 최대 limit명의 사용자 id를 조회합니다. (카운터 보정 배치의 범위 결정용)
+     */
+    public List<Long> findUserIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?", Long.class, afterId, limit);
+    }
+
+    /**
+     * id 범위 (fromId, toId] 사용자의 카운터를 대출/예약 테이블에서 다시 계산하여, 값이 다른 사용자만 고칩니다.
+     *
+     * @return 고친 사용자 수
+     */
+    public int repairCounters(long fromId, long toId) {
+        return jdbcTemplate.update(REPAIR, fromId, toId);
+    }
+}
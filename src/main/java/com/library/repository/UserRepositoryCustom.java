@@ -0,0 +1,17 @@
+package com.library.repository;
+
+import com.library.domain.user.User;
+
+import java.util.Optional;
+
+/**
+ * 사용자 자연 키(userId) 조회
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * userId로 사용자를 조회합니다.
+     * 자연 키 캐시와 2차 캐시를 거치므로 반복 조회 시 SQL을 실행하지 않습니다.
+     */
+    Optional<User> findByUserId(String userId);
+}
@@ -0,0 +1,25 @@
+package com.library.search;
+
+import com.library.domain.book.BookSnapshot;
+
+/**
+ * 도서 카탈로그를 메모리에 유지하는 인덱스 공통 인터페이스
+ * {@link CatalogIndexer}가 기동 시 전체 도서를 적재하고, 이후 도서 변경 이벤트를 반영합니다.
+ */
+public interface CatalogIndex {
+
+    /**
+     * 인덱스를 비웁니다. 전체 재적재 직전에 호출됩니다.
+     */
+    void clear();
+
+    /**
+     * 도서를 인덱스에 추가하거나, 이미 있으면 새 스냅샷으로 교체합니다.
+     */
+    void put(BookSnapshot book);
+
+    /**
+     * 도서를 인덱스에서 제거합니다. 없는 도서면 무시합니다.
+     */
+    void remove(BookSnapshot book);
+}
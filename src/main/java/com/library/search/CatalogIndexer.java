@@ -0,0 +1,105 @@
+package com.library.search;
+
+import com.library.domain.book.Book;
+import com.library.domain.book.BookChangedEvent;
+import com.library.domain.book.BookSnapshot;
+import com.library.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인메모리 카탈로그 인덱스({@link CatalogIndex}) 적재 및 동기화 담당
+ *
+ * 애플리케이션 기동 후 도서 테이블을 id 순으로 나누어 읽어 모든 인덱스에 적재하고,
+ * 이후에는 트랜잭션 커밋이 끝난 {@link BookChangedEvent}만 반영합니다.
+ * 적재 중에 들어온 이벤트는 보관했다가 적재가 끝난 뒤 순서대로 재생하므로
+ * 적재와 쓰기가 겹쳐도 최종 상태는 DB와 일치합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogIndexer {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final List<CatalogIndex> indexes;
+
+    private final Object lock = new Object();
+    private final List<BookChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스 적재가 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        synchronized (lock) {
+            ready = false;
+            indexes.forEach(CatalogIndex::clear);
+        }
+
+        long lastId = 0L;
+        long loaded = 0L;
+        while (true) {
+            List<Book> chunk = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            synchronized (lock) {
+                for (Book book : chunk) {
+                    BookSnapshot snapshot = BookSnapshot.from(book);
+                    indexes.forEach(index -> index.put(snapshot));
+                }
+            }
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            loaded += chunk.size();
+        }
+
+        synchronized (lock) {
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            ready = true;
+        }
+
+        log.info("카탈로그 인덱스 적재 완료: {}권, {}ms", loaded, System.currentTimeMillis() - startTime);
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        synchronized (lock) {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+            apply(event);
+        }
+    }
+
+    private void apply(BookChangedEvent event) {
+        if (event.after() != null) {
+            indexes.forEach(index -> index.put(event.after()));
+        } else {
+            indexes.forEach(index -> index.remove(event.before()));
+        }
+    }
+}
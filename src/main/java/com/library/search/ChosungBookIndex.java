@@ -0,0 +1,41 @@
+package com.library.search;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 한글 초성 검색용 n-gram 역색인
+ *
+ * 제목/저자의 한글 음절을 초성으로 바꾼 텍스트로 gram을 만들어, "ㅎㄹㅍㅌ"처럼 초성으로 입력한 검색어로 도서를 찾습니다.
+ * "해리ㅍㅌ"처럼 완성형 음절과 초성이 섞인 검색어도 지원하며,
+ * 검색어의 초성은 같은 초성을 가진 음절과, 완성형 음절은 같은 음절과만 일치합니다.
+ */
+@Component
+public class ChosungBookIndex extends NGramBookIndex {
+
+    @Override
+    protected String gramText(String normalized) {
+        return SearchTextAnalyzer.chosung(normalized);
+    }
+
+    @Override
+    protected boolean contains(String text, String part) {
+        for (int start = 0; start + part.length() <= text.length(); start++) {
+            if (matchesAt(text, start, part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesAt(String text, int start, String part) {
+        for (int i = 0; i < part.length(); i++) {
+            char textChar = text.charAt(start + i);
+            char partChar = part.charAt(i);
+            if (textChar != partChar
+                    && !(SearchTextAnalyzer.isChosung(partChar) && SearchTextAnalyzer.chosungOf(textChar) == partChar)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
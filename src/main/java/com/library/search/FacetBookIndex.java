@@ -0,0 +1,223 @@
+package com.library.search;
+
+import com.library.domain.book.BookSnapshot;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.domain.loan.LoanReturnedEvent;
+import com.library.dto.search.SearchDto;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색 결과 facet(카테고리, 출판 연대, 대출 가능 여부) 집계용 인덱스
+ *
+ * 도서 id(PK)를 위치로 하는 열(column) 배열에 카테고리/연대 번호와 대출 가능 여부를 보관하고,
+ * 검색 결과 id 목록을 한 번 순회하면서 모든 facet의 건수를 함께 셉니다.
+ * 대출/반납으로 바뀌는 대출 가능 여부는 대출 이벤트로 갱신합니다.
+ */
+@Component
+public class FacetBookIndex implements CatalogIndex {
+
+    private static final int NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> categoryOrdinals = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+    private final Map<Integer, Integer> decadeOrdinals = new HashMap<>();
+    private final List<Integer> decades = new ArrayList<>();
+    private int[] categoryOf = newColumn(1024);
+    private int[] decadeOf = newColumn(1024);
+    private final BitSet indexed = new BitSet();
+    private final BitSet available = new BitSet();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            categoryOrdinals.clear();
+            categories.clear();
+            decadeOrdinals.clear();
+            decades.clear();
+            categoryOf = newColumn(1024);
+            decadeOf = newColumn(1024);
+            indexed.clear();
+            available.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+
+        lock.writeLock().lock();
+        try {
+            if (id >= categoryOf.length) {
+                int capacity = Math.max(id + 1, categoryOf.length * 2);
+                categoryOf = grow(categoryOf, capacity);
+                decadeOf = grow(decadeOf, capacity);
+            }
+            categoryOf[id] = book.category() != null ? categoryOrdinal(book.category()) : NONE;
+            decadeOf[id] = book.publishedDate() != null ? decadeOrdinal(book.publishedDate().getYear() / 10 * 10) : NONE;
+            indexed.set(id);
+            available.set(id, isAvailable(book));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+
+        lock.writeLock().lock();
+        try {
+            if (id < categoryOf.length) {
+                categoryOf[id] = NONE;
+                decadeOf[id] = NONE;
+            }
+            indexed.clear(id);
+            available.clear(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색 결과 캐시(SearchResultCache)가 세대를 올리기 전에 대출 가능 여부를 먼저 갱신
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        updateAvailability(event.book());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        updateAvailability(event.book());
+    }
+
+    /**
+     * 검색 결과 도서들의 facet별 건수를 계산합니다.
+     *
+     * @param ids 검색 조건에 맞는 도서 id 목록
+     */
+    public SearchDto.Facets count(int[] ids) {
+        lock.readLock().lock();
+        try {
+            int[] categoryCounts = new int[categories.size()];
+            int[] decadeCounts = new int[decades.size()];
+            long availableCount = 0;
+            long unavailableCount = 0;
+
+            for (int id : ids) {
+                if (!indexed.get(id)) {
+                    continue;
+                }
+                if (categoryOf[id] != NONE) {
+                    categoryCounts[categoryOf[id]]++;
+                }
+                if (decadeOf[id] != NONE) {
+                    decadeCounts[decadeOf[id]]++;
+                }
+                if (available.get(id)) {
+                    availableCount++;
+                } else {
+                    unavailableCount++;
+                }
+            }
+
+            List<SearchDto.FacetCount> categoryFacets = new ArrayList<>();
+            for (int i = 0; i < categoryCounts.length; i++) {
+                if (categoryCounts[i] > 0) {
+                    categoryFacets.add(facetCount(categories.get(i), categoryCounts[i]));
+                }
+            }
+            categoryFacets.sort(Comparator.comparingLong(SearchDto.FacetCount::getCount).reversed()
+                    .thenComparing(SearchDto.FacetCount::getValue));
+
+            List<Integer> decadeOrder = new ArrayList<>();
+            for (int i = 0; i < decadeCounts.length; i++) {
+                if (decadeCounts[i] > 0) {
+                    decadeOrder.add(i);
+                }
+            }
+            decadeOrder.sort(Comparator.comparing(decades::get));
+            List<SearchDto.FacetCount> decadeFacets = new ArrayList<>(decadeOrder.size());
+            for (int ordinal : decadeOrder) {
+                decadeFacets.add(facetCount(decades.get(ordinal) + "s", decadeCounts[ordinal]));
+            }
+
+            return SearchDto.Facets.builder()
+                    .categories(categoryFacets)
+                    .decades(decadeFacets)
+                    .available(availableCount)
+                    .unavailable(unavailableCount)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void updateAvailability(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+
+        lock.writeLock().lock();
+        try {
+            if (indexed.get(id)) {
+                available.set(id, isAvailable(book));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isAvailable(BookSnapshot book) {
+        return book.copiesAvailable() != null && book.copiesAvailable() > 0;
+    }
+
+    // 카테고리/연대 종류는 많지 않으므로 한 번 부여한 번호는 재사용하지 않음
+    private int categoryOrdinal(String category) {
+        return categoryOrdinals.computeIfAbsent(category, key -> {
+            categories.add(key);
+            return categories.size() - 1;
+        });
+    }
+
+    private int decadeOrdinal(int decade) {
+        return decadeOrdinals.computeIfAbsent(decade, key -> {
+            decades.add(key);
+            return decades.size() - 1;
+        });
+    }
+
+    private SearchDto.FacetCount facetCount(String value, long count) {
+        return SearchDto.FacetCount.builder()
+                .value(value)
+                .count(count)
+                .build();
+    }
+
+    private static int[] newColumn(int capacity) {
+        int[] column = new int[capacity];
+        Arrays.fill(column, NONE);
+        return column;
+    }
+
+    private static int[] grow(int[] column, int capacity) {
+        int[] grown = newColumn(capacity);
+        System.arraycopy(column, 0, grown, 0, column.length);
+        return grown;
+    }
+}
@@ -0,0 +1,189 @@
+package com.library.search;
+
+import com.library.domain.book.BookSummary;
+import com.library.dto.book.BookDto;
+import com.library.dto.search.SearchDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * DB 전문 검색 인덱스 기반 검색 전략 (library.search.strategy=full-text)
+ *
+ * - MySQL: books(title, author, description), books(author)의 FULLTEXT 인덱스(ngram 파서)를 MATCH ... AGAINST로 조회합니다.
+ *   인덱스는 docker/mysql/init/01-schema.sql에 정의되어 있으며, ngram 토큰 크기(기본 2)보다 짧은 검색어는 일치하지 않습니다.
+ * - H2: 기동 시 내장 전문 검색(FT_INIT, FT_CREATE_INDEX)을 초기화하고 FT_SEARCH_DATA로 조회합니다.
+ *   H2 내장 전문 검색은 컬럼 지정과 점수를 지원하지 않으므로 저자 조건은 LIKE로, 관련도 정렬은 id 순으로 처리합니다.
+ *
+ * 인메모리 인덱스 전용 기능(오타 허용, 초성 검색, facet 집계)은 지원하지 않으며 fuzzy 요청은 일반 검색으로 처리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "library.search.strategy", havingValue = "full-text")
+@RequiredArgsConstructor
+public class FullTextSearchStrategy implements SearchStrategy {
+
+    // 목록 응답에 필요한 컬럼만 조회 (BookSummary 생성자 순서)
+    private static final String SUMMARY_COLUMNS =
+            "b.id, b.book_id, b.title, b.author, b.category, b.copies_available, b.published_date, b.isbn";
+    private static final String MYSQL_KEYWORD_MATCH = "MATCH(b.title, b.author, b.description) AGAINST (:keyword IN BOOLEAN MODE)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Dialect dialect;
+
+    enum Dialect {
+        MYSQL,
+        H2
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (dialect() == Dialect.H2) {
+            jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init'");
+            jdbcTemplate.execute("CALL FT_INIT()");
+            Integer indexes = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM FT.INDEXES WHERE \"TABLE\" = 'BOOKS'", Integer.class);
+            if (indexes == null || indexes == 0) {
+                jdbcTemplate.execute("CALL FT_CREATE_INDEX('PUBLIC', 'BOOKS', 'TITLE,AUTHOR,DESCRIPTION')");
+            }
+        }
+        log.info("DB 전문 검색 전략 사용: {}", dialect());
+    }
+
+    @Override
+    public SearchDto.SearchResponse search(SearchDto.SearchRequest request) {
+        Dialect currentDialect = dialect();
+        String keyword = SearchTextAnalyzer.normalize(request.getKeyword());
+        String author = SearchTextAnalyzer.normalize(request.getAuthor());
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (keyword != null) {
+            where.append(" AND ").append(keywordCondition(currentDialect));
+            parameters.put("keyword", fullTextQuery(currentDialect, keyword));
+        }
+        if (author != null) {
+            if (currentDialect == Dialect.MYSQL) {
+                where.append(" AND MATCH(b.author) AGAINST (:author IN BOOLEAN MODE)");
+                parameters.put("author", fullTextQuery(currentDialect, author));
+            } else {
+                where.append(" AND LOWER(b.author) LIKE :author");
+                parameters.put("author", "%" + author + "%");
+            }
+        }
+        if (request.getCategory() != null) {
+            where.append(" AND b.category = :category");
+            parameters.put("category", request.getCategory());
+        }
+
+        boolean relevanceOrder = request.isRelevanceSort() && keyword != null && currentDialect == Dialect.MYSQL;
+        StringBuilder sql = new StringBuilder("SELECT " + SUMMARY_COLUMNS + " FROM books b").append(where);
+        if (request.isCursorMode()) {
+            sql.append(" AND b.id > :lastId");
+        }
+        sql.append(relevanceOrder ? " ORDER BY " + MYSQL_KEYWORD_MATCH + " DESC, b.id" : " ORDER BY b.id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        parameters.forEach(query::setParameter);
+        if (request.isCursorMode()) {
+            query.setParameter("lastId", SearchCursor.decode(request.getCursor()));
+        }
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        query.setFirstResult(request.isCursorMode() ? 0 : request.getPage() * request.getSize());
+        query.setMaxResults(request.getSize() + 1);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        boolean hasNext = rows.size() > request.getSize();
+        List<BookSummary> content = (hasNext ? rows.subList(0, request.getSize()) : rows).stream()
+                .map(this::toSummary)
+                .collect(Collectors.toList());
+
+        SearchDto.SearchResponse.SearchResponseBuilder builder = SearchDto.SearchResponse.builder()
+                .books(content.stream()
+                        .map(BookDto.SimpleResponse::from)
+                        .collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(hasNext && !request.isRelevanceSort()
+                        ? SearchCursor.encode(content.get(content.size() - 1).id())
+                        : null);
+
+        if (request.shouldCountTotal()) {
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM books b" + where);
+            parameters.forEach(countQuery::setParameter);
+            long totalElements = ((Number) countQuery.getSingleResult()).longValue();
+            builder.totalElements(totalElements)
+                    .totalPages((int) ((totalElements + request.getSize() - 1) / request.getSize()));
+        }
+
+        return builder.build();
+    }
+
+    private BookSummary toSummary(Object[] row) {
+        return new BookSummary(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                row[5] != null ? ((Number) row[5]).intValue() : null,
+                toLocalDate(row[6]),
+                (String) row[7]);
+    }
+
+    // 드라이버/Hibernate 설정에 따라 DATE 컬럼이 java.sql.Date 또는 LocalDate로 반환됨
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private String keywordCondition(Dialect currentDialect) {
+        if (currentDialect == Dialect.MYSQL) {
+            return MYSQL_KEYWORD_MATCH;
+        }
+        return "b.id IN (SELECT CAST(ft.KEYS[1] AS BIGINT) FROM FT_SEARCH_DATA(:keyword, 0, 0) ft WHERE ft.\"TABLE\" = 'BOOKS')";
+    }
+
+    /**
+     * 정규화된 검색어를 전문 검색 질의로 변환합니다. 단어(문자/숫자 연속 구간)만 사용하므로 검색 연산자는 입력될 수 없습니다.
+     * MySQL은 모든 단어를 구(phrase)로 필수 포함(+"단어")하고, H2는 단어를 공백으로 이어 모두 포함하도록 검색합니다.
+     */
+    private String fullTextQuery(Dialect currentDialect, String normalized) {
+        List<String> words = SearchTextAnalyzer.words(normalized);
+        if (currentDialect == Dialect.MYSQL) {
+            return words.stream()
+                    .map(word -> "+\"" + word + "\"")
+                    .collect(Collectors.joining(" "));
+        }
+        return String.join(" ", words);
+    }
+
+    private Dialect dialect() {
+        Dialect detected = dialect;
+        if (detected == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            detected = "H2".equalsIgnoreCase(productName) ? Dialect.H2 : Dialect.MYSQL;
+            dialect = detected;
+        }
+        return detected;
+    }
+}
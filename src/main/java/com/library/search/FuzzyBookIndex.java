@@ -0,0 +1,329 @@
+package com.library.search;
+
+import com.library.domain.book.BookSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 오타 허용 검색용 단어 trigram 인덱스
+ *
+ * 도서 제목/저자의 단어 사전(중복 제거)을 만들고 단어별 trigram으로 색인합니다.
+ * 검색어의 각 단어와 trigram을 충분히 공유하는 사전 단어만 후보로 추린 뒤 편집 거리로 검증하므로,
+ * 비용은 도서 수가 아니라 사전 크기와 후보 수에 비례합니다.
+ * 한글은 자모 단위로 분해하여 비교하므로 받침 하나가 틀린 경우도 편집 거리 1로 계산됩니다.
+ *
+ * 조회 시간을 제한하기 위해 너무 흔한 trigram은 후보 집계에서 제외하고,
+ * 검증할 후보 단어 수도 {@value #MAX_CANDIDATES}개로 제한합니다.
+ */
+@Component
+public class FuzzyBookIndex implements CatalogIndex {
+
+    private static final int MAX_GRAM_POSTINGS = 50_000;
+    private static final int MAX_CANDIDATES = 2_000;
+    private static final char WORD_START = '\u0002';
+    private static final char WORD_END = '\u0003';
+    private static final int[] EMPTY = new int[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Word> words = new HashMap<>();
+    private final Map<Integer, Word> wordsById = new HashMap<>();
+    private final Map<Long, IntPostings> gramPostings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private int nextWordId = 0;
+
+    private static final class Word {
+        final int id;
+        final String text;
+        final IntPostings titleDocuments = new IntPostings();
+        final IntPostings authorDocuments = new IntPostings();
+
+        Word(int id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        boolean isUnused() {
+            return titleDocuments.isEmpty() && authorDocuments.isEmpty();
+        }
+    }
+
+    private record Document(List<String> titleWords, List<String> authorWords, String category) {
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            words.clear();
+            wordsById.clear();
+            gramPostings.clear();
+            documents.clear();
+            nextWordId = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+        Document document = new Document(fuzzyWords(book.title()), fuzzyWords(book.author()), book.category());
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) {
+                detach(id, previous);
+            }
+            for (String text : document.titleWords()) {
+                wordFor(text).titleDocuments.add(id);
+            }
+            for (String text : document.authorWords()) {
+                wordFor(text).authorDocuments.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                detach(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어가 (오타를 허용하여) 제목 또는 저자에 포함된 도서 id를 오름차순으로 반환합니다.
+     * author가 있으면 그 단어들은 저자에만 대조하며, category는 정확히 일치해야 합니다.
+     */
+    public int[] search(String keyword, String category, String author) {
+        List<String> keywordWords = fuzzyWords(keyword);
+        List<String> authorWords = fuzzyWords(author);
+        if (keywordWords.isEmpty() && authorWords.isEmpty()) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (String queryWord : keywordWords) {
+                result = intersect(result, matchingDocuments(queryWord, true));
+            }
+            for (String queryWord : authorWords) {
+                result = intersect(result, matchingDocuments(queryWord, false));
+            }
+
+            int[] hits = new int[result.cardinality()];
+            int count = 0;
+            for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+                if (category == null || category.equals(documents.get(id).category())) {
+                    hits[count++] = id;
+                }
+            }
+            return count == hits.length ? hits : Arrays.copyOf(hits, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int vocabularySize() {
+        lock.readLock().lock();
+        try {
+            return words.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 단어와 편집 거리 허용 범위 안에 있는 사전 단어들이 등장하는 도서 집합
+    private BitSet matchingDocuments(String queryWord, boolean includeTitle) {
+        BitSet documentIds = new BitSet();
+        int maxDistance = maxDistance(queryWord);
+        long[] grams = grams(queryWord);
+
+        Map<Integer, Integer> sharedGrams = new HashMap<>();
+        int skipped = 0;
+        for (long gram : grams) {
+            IntPostings postings = gramPostings.get(gram);
+            if (postings == null) {
+                continue;
+            }
+            if (postings.size() > MAX_GRAM_POSTINGS) {
+                skipped++;
+                continue;
+            }
+            for (int i = 0; i < postings.size(); i++) {
+                sharedGrams.merge(postings.get(i), 1, Integer::sum);
+            }
+        }
+
+        // q-gram 보조정리: 편집 1회는 검색어 trigram을 최대 3개까지 바꿀 수 있음
+        int minShared = Math.max(1, grams.length - 3 * maxDistance - skipped);
+        List<Map.Entry<Integer, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : sharedGrams.entrySet()) {
+            if (entry.getValue() >= minShared) {
+                candidates.add(entry);
+            }
+        }
+        if (candidates.size() > MAX_CANDIDATES) {
+            candidates.sort(Map.Entry.<Integer, Integer>comparingByValue().reversed());
+            candidates = candidates.subList(0, MAX_CANDIDATES);
+        }
+
+        for (Map.Entry<Integer, Integer> candidate : candidates) {
+            Word word = wordsById.get(candidate.getKey());
+            if (editDistanceWithin(queryWord, word.text, maxDistance)) {
+                addAll(documentIds, word.authorDocuments);
+                if (includeTitle) {
+                    addAll(documentIds, word.titleDocuments);
+                }
+            }
+        }
+        return documentIds;
+    }
+
+    private BitSet intersect(BitSet current, BitSet next) {
+        if (current == null) {
+            return next;
+        }
+        current.and(next);
+        return current;
+    }
+
+    private void addAll(BitSet target, IntPostings postings) {
+        for (int i = 0; i < postings.size(); i++) {
+            target.set(postings.get(i));
+        }
+    }
+
+    private Word wordFor(String text) {
+        Word word = words.get(text);
+        if (word == null) {
+            word = new Word(nextWordId++, text);
+            words.put(text, word);
+            wordsById.put(word.id, word);
+            for (long gram : grams(text)) {
+                gramPostings.computeIfAbsent(gram, key -> new IntPostings()).add(word.id);
+            }
+        }
+        return word;
+    }
+
+    private void detach(int id, Document document) {
+        for (String text : document.titleWords()) {
+            Word word = words.get(text);
+            word.titleDocuments.remove(id);
+            removeIfUnused(word);
+        }
+        for (String text : document.authorWords()) {
+            Word word = words.get(text);
+            word.authorDocuments.remove(id);
+            removeIfUnused(word);
+        }
+    }
+
+    private void removeIfUnused(Word word) {
+        if (!word.isUnused()) {
+            return;
+        }
+        words.remove(word.text);
+        wordsById.remove(word.id);
+        for (long gram : grams(word.text)) {
+            IntPostings postings = gramPostings.get(gram);
+            if (postings != null && postings.remove(word.id) && postings.isEmpty()) {
+                gramPostings.remove(gram);
+            }
+        }
+    }
+
+    // 정규화 -> 단어 분리 -> 한글 자모 분해 (중복 단어 제거)
+    private static List<String> fuzzyWords(String text) {
+        List<String> result = new ArrayList<>();
+        for (String word : SearchTextAnalyzer.words(SearchTextAnalyzer.normalize(text))) {
+            String decomposed = SearchTextAnalyzer.decomposeHangul(word);
+            if (!result.contains(decomposed)) {
+                result.add(decomposed);
+            }
+        }
+        return result;
+    }
+
+    // 단어 앞뒤에 경계 문자를 붙인 trigram 목록
+    private static long[] grams(String word) {
+        String padded = WORD_START + word + WORD_END;
+        long[] grams = new long[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    private static int maxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * 두 문자열의 편집 거리(Levenshtein)가 maxDistance 이하인지 확인합니다.
+     * 대각선 주변 maxDistance 폭만 계산하고, 한 행의 최솟값이 한도를 넘으면 즉시 중단합니다.
+     */
+    static boolean editDistanceWithin(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) {
+            return false;
+        }
+
+        int inf = maxDistance + 1;
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j <= maxDistance ? j : inf;
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(target.length(), i + maxDistance);
+            current[0] = i <= maxDistance ? i : inf;
+            if (from > 1) {
+                current[from - 1] = inf;
+            }
+
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, inf);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < target.length()) {
+                current[to + 1] = inf;
+            }
+            if (rowMin > maxDistance) {
+                return false;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[target.length()] <= maxDistance;
+    }
+}
@@ -0,0 +1,200 @@
+package com.library.search;
+
+import com.library.domain.book.BookSummary;
+import com.library.dto.book.BookDto;
+import com.library.dto.search.SearchDto;
+import com.library.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 인덱스 기반 검색 전략 (library.search.strategy=in-memory, 기본값)
+ *
+ * n-gram/초성/오타 허용 인덱스로 조건에 맞는 도서 id를 찾고, 요청한 페이지의 도서만 DB에서 조회합니다.
+ * 인덱스 적재가 끝나기 전(기동 직후)에는 DB의 LIKE 검색으로 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "library.search.strategy", havingValue = "in-memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemorySearchStrategy implements SearchStrategy {
+
+    private final BookRepository bookRepository;
+    private final CatalogIndexer catalogIndexer;
+    private final InvertedBookIndex invertedBookIndex;
+    private final FuzzyBookIndex fuzzyBookIndex;
+    private final ChosungBookIndex chosungBookIndex;
+    private final RelevanceBookIndex relevanceBookIndex;
+    private final FacetBookIndex facetBookIndex;
+
+    @Override
+    public SearchDto.SearchResponse search(SearchDto.SearchRequest request) {
+        // 인메모리 인덱스 적재가 끝나기 전(기동 직후)에는 DB 검색으로 처리 (오타 허용, 관련도 정렬 없이 id 순)
+        if (catalogIndexer.isReady()) {
+            int[] ids = findIds(request);
+            return request.isRelevanceSort()
+                    ? searchByRelevance(request, ids)
+                    : searchFromIndex(request, ids);
+        }
+
+        if (request.isCursorMode()) {
+            return searchFromRepositoryAfterCursor(request);
+        }
+
+        // 커서와 같은 정렬 키(id)로 정렬하여 page 기반 응답의 nextCursor로 이어서 조회할 수 있도록 함
+        Page<BookSummary> searchResult = bookRepository.searchBooks(
+                request.getKeyword(),
+                request.getCategory(),
+                request.getAuthor(),
+                PageRequest.of(request.getPage(), request.getSize(), Sort.by("id"))
+        );
+
+        List<BookSummary> content = searchResult.getContent();
+        List<BookDto.SimpleResponse> books = content.stream()
+                .map(BookDto.SimpleResponse::from)
+                .collect(Collectors.toList());
+
+        return SearchDto.SearchResponse.builder()
+                .books(books)
+                .totalElements(searchResult.getTotalElements())
+                .totalPages(searchResult.getTotalPages())
+                .hasNext(searchResult.hasNext())
+                .nextCursor(searchResult.hasNext() ? SearchCursor.encode(content.get(content.size() - 1).id()) : null)
+                .build();
+    }
+
+    /**
+     * 검색 조건에 맞는 도서 id를 오름차순으로 찾습니다.
+     * 검색어에 초성(ㄱ~ㅎ)이 있으면 초성 인덱스를, fuzzy 요청이면 오타 허용 인덱스를, 그 외에는 n-gram 역색인을 사용합니다.
+     */
+    private int[] findIds(SearchDto.SearchRequest request) {
+        String keyword = request.getKeyword();
+        String author = request.getAuthor();
+        if (SearchTextAnalyzer.containsChosung(keyword) || SearchTextAnalyzer.containsChosung(author)) {
+            return chosungBookIndex.search(keyword, request.getCategory(), author);
+        }
+        if (request.isFuzzy()) {
+            return fuzzyBookIndex.search(keyword, request.getCategory(), author);
+        }
+        return invertedBookIndex.search(keyword, request.getCategory(), author);
+    }
+
+    /**
+     * 커서 이후 구간을 PK 범위로 조회합니다. 전체 건수는 요청한 경우에만 별도로 집계합니다.
+     */
+    private SearchDto.SearchResponse searchFromRepositoryAfterCursor(SearchDto.SearchRequest request) {
+        long lastId = SearchCursor.decode(request.getCursor());
+        Slice<BookSummary> searchResult = bookRepository.searchBooksAfter(
+                request.getKeyword(),
+                request.getCategory(),
+                request.getAuthor(),
+                lastId,
+                PageRequest.of(0, request.getSize())
+        );
+
+        List<BookSummary> content = searchResult.getContent();
+        SearchDto.SearchResponse.SearchResponseBuilder builder = SearchDto.SearchResponse.builder()
+                .books(content.stream()
+                        .map(BookDto.SimpleResponse::from)
+                        .collect(Collectors.toList()))
+                .hasNext(searchResult.hasNext())
+                .nextCursor(searchResult.hasNext() ? SearchCursor.encode(content.get(content.size() - 1).id()) : null);
+
+        if (request.shouldCountTotal()) {
+            long totalElements = bookRepository.countSearchBooks(
+                    request.getKeyword(), request.getCategory(), request.getAuthor());
+            builder.totalElements(totalElements)
+                    .totalPages((int) ((totalElements + request.getSize() - 1) / request.getSize()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 인메모리 인덱스가 찾은 도서 id 중 요청한 페이지의 도서만 DB에서 조회합니다.
+     * 결과가 id 오름차순이므로 커서 위치는 이진 탐색으로 찾습니다.
+     * 전체 건수를 집계하는 경우 facet 건수도 같은 id 목록으로 함께 계산합니다.
+     */
+    private SearchDto.SearchResponse searchFromIndex(SearchDto.SearchRequest request, int[] ids) {
+        PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
+
+        int from = request.isCursorMode()
+                ? positionAfter(ids, SearchCursor.decode(request.getCursor()))
+                : (int) Math.min(pageRequest.getOffset(), ids.length);
+        int to = Math.min(from + pageRequest.getPageSize(), ids.length);
+        boolean hasNext = to < ids.length;
+
+        SearchDto.SearchResponse.SearchResponseBuilder builder = SearchDto.SearchResponse.builder()
+                .books(loadBooks(ids, from, to))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? SearchCursor.encode(ids[to - 1]) : null);
+
+        if (request.shouldCountTotal()) {
+            builder.totalElements((long) ids.length)
+                    .totalPages((ids.length + pageRequest.getPageSize() - 1) / pageRequest.getPageSize())
+                    .facets(facetBookIndex.count(ids));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 후보 도서에 BM25 점수를 매겨 요청한 페이지까지의 상위 도서만 선택합니다.
+     * 점수 순서는 id 순서와 무관하므로 커서 대신 page로만 조회합니다.
+     */
+    private SearchDto.SearchResponse searchByRelevance(SearchDto.SearchRequest request, int[] ids) {
+        PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
+        long limit = pageRequest.getOffset() + pageRequest.getPageSize();
+        int[] ranked = relevanceBookIndex.topK(ids, request.getKeyword(), (int) Math.min(limit, ids.length));
+        int from = (int) Math.min(pageRequest.getOffset(), ranked.length);
+
+        return SearchDto.SearchResponse.builder()
+                .books(loadBooks(ranked, from, ranked.length))
+                .totalElements((long) ids.length)
+                .totalPages((ids.length + pageRequest.getPageSize() - 1) / pageRequest.getPageSize())
+                .hasNext(limit < ids.length)
+                .facets(facetBookIndex.count(ids))
+                .build();
+    }
+
+    // 정렬된 id 배열에서 lastId보다 큰 첫 원소의 위치
+    private int positionAfter(int[] ids, long lastId) {
+        if (lastId >= Integer.MAX_VALUE) {
+            return ids.length;
+        }
+        int position = Arrays.binarySearch(ids, (int) lastId + 1);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    // 인덱스 순서를 유지하면서 id 목록에 해당하는 도서를 한 번의 쿼리로 조회
+    private List<BookDto.SimpleResponse> loadBooks(int[] ids, int from, int to) {
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add((long) ids[i]);
+        }
+        if (pageIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, BookSummary> booksById = bookRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(BookSummary::id, Function.identity()));
+
+        return pageIds.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .map(BookDto.SimpleResponse::from)
+                .collect(Collectors.toList());
+    }
+}
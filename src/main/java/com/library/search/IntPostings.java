@@ -0,0 +1,77 @@
+package com.library.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 int 목록 (역색인의 posting list)
+ * 도서 id는 대부분 증가하는 순서로 추가되므로 추가는 보통 배열 끝에 붙이는 것으로 끝납니다.
+ * 동기화하지 않으므로 소유한 인덱스의 락 안에서만 사용해야 합니다.
+ */
+final class IntPostings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    boolean add(int value) {
+        if (size == 0 || values[size - 1] < value) {
+            ensureCapacity();
+            values[size++] = value;
+            return true;
+        }
+
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0) {
+            return false;
+        }
+
+        int insertAt = -position - 1;
+        ensureCapacity();
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+        return true;
+    }
+
+    boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    /**
+     * value 이상인 첫 원소의 위치를 반환합니다. 없으면 size()를 반환합니다.
+     */
+    int lowerBound(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void ensureCapacity() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1) + 1);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.library.search;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 제목/저자 n-gram 역색인
+ *
+ * {@code LOWER(title) LIKE '%keyword%'} 조건과 같은 결과를 DB 전체 스캔 없이 찾기 위한 인덱스입니다.
+ * 정규화된 원문 그대로 gram을 만들고, 후보는 부분 문자열 포함 여부로 검증합니다.
+ */
+@Component
+public class InvertedBookIndex extends NGramBookIndex {
+
+    @Override
+    protected String gramText(String normalized) {
+        return normalized;
+    }
+
+    @Override
+    protected boolean contains(String text, String part) {
+        return text.contains(part);
+    }
+}
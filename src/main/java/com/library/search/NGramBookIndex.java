@@ -0,0 +1,235 @@
+package com.library.search;
+
+import com.library.domain.book.BookSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 제목/저자 n-gram 역색인의 공통 구현
+ *
+ * 검색어의 gram을 모두 가진 도서만 후보로 추린 뒤, 정규화된 원문에 검색어가 실제로 포함되는지 검증합니다.
+ * gram을 만들 텍스트 형태와 포함 여부 판단은 하위 클래스가 정합니다.
+ * posting list는 도서 id(PK) 오름차순이므로 검색 결과도 항상 id 오름차순입니다.
+ */
+public abstract class NGramBookIndex implements CatalogIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final Map<Integer, IntPostings> gramPostings = new HashMap<>();
+    private final Map<String, IntPostings> categoryPostings = new HashMap<>();
+    private IntPostings allDocuments = new IntPostings();
+
+    private record Document(String title, String author, String category, int[] grams) {
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            gramPostings.clear();
+            categoryPostings.clear();
+            allDocuments = new IntPostings();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(BookSnapshot book) {
+        int id = toDocumentId(book.id());
+        String title = SearchTextAnalyzer.normalize(book.title());
+        String author = SearchTextAnalyzer.normalize(book.author());
+        int[] grams = SearchTextAnalyzer.union(
+                SearchTextAnalyzer.indexGrams(gramText(title)),
+                SearchTextAnalyzer.indexGrams(gramText(author)));
+        Document document = new Document(title, author, book.category(), grams);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous == null) {
+                for (int gram : grams) {
+                    gramPostings.computeIfAbsent(gram, key -> new IntPostings()).add(id);
+                }
+                addCategory(document.category(), id);
+                allDocuments.add(id);
+                return;
+            }
+
+            updateGrams(id, previous.grams(), grams);
+            if (!Objects.equals(previous.category(), document.category())) {
+                removeCategory(previous.category(), id);
+                addCategory(document.category(), id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookSnapshot book) {
+        int id = toDocumentId(book.id());
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (int gram : previous.grams()) {
+                removeGram(gram, id);
+            }
+            removeCategory(previous.category(), id);
+            allDocuments.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 도서 id를 오름차순으로 반환합니다.
+     *
+     * @param keyword  제목 또는 저자에 포함되어야 하는 문자열 (null이면 조건 없음)
+     * @param category 정확히 일치해야 하는 카테고리 (null이면 조건 없음)
+     * @param author   저자에 포함되어야 하는 문자열 (null이면 조건 없음)
+     */
+    public int[] search(String keyword, String category, String author) {
+        String normalizedKeyword = SearchTextAnalyzer.normalize(keyword);
+        String normalizedAuthor = SearchTextAnalyzer.normalize(author);
+        int[] grams = SearchTextAnalyzer.union(
+                SearchTextAnalyzer.queryGrams(gramText(normalizedKeyword)),
+                SearchTextAnalyzer.queryGrams(gramText(normalizedAuthor)));
+        boolean needsVerification = normalizedKeyword != null || normalizedAuthor != null;
+
+        lock.readLock().lock();
+        try {
+            List<IntPostings> lists = new ArrayList<>(grams.length + 1);
+            if (category != null) {
+                IntPostings postings = categoryPostings.get(category);
+                if (postings == null) {
+                    return EMPTY;
+                }
+                lists.add(postings);
+            }
+            for (int gram : grams) {
+                IntPostings postings = gramPostings.get(gram);
+                if (postings == null) {
+                    return EMPTY;
+                }
+                lists.add(postings);
+            }
+            if (lists.isEmpty()) {
+                lists.add(allDocuments);
+            }
+            lists.sort(Comparator.comparingInt(IntPostings::size));
+
+            IntPostings smallest = lists.get(0);
+            int[] hits = new int[smallest.size()];
+            int count = 0;
+            candidates:
+            for (int i = 0; i < smallest.size(); i++) {
+                int id = smallest.get(i);
+                for (int j = 1; j < lists.size(); j++) {
+                    if (!lists.get(j).contains(id)) {
+                        continue candidates;
+                    }
+                }
+                if (needsVerification && !matches(documents.get(id), normalizedKeyword, normalizedAuthor)) {
+                    continue;
+                }
+                hits[count++] = id;
+            }
+
+            return Arrays.copyOf(hits, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * gram을 만들 텍스트 형태로 변환합니다. 색인과 검색어에 같은 변환을 적용합니다.
+     *
+     * @param normalized 정규화된 텍스트 (null 가능)
+     */
+    protected abstract String gramText(String normalized);
+
+    /**
+     * 정규화된 원문에 정규화된 검색어가 포함되는지 확인합니다.
+     * 포함된다면 gramText(part)의 gram은 모두 gramText(text)의 gram이어야 합니다.
+     */
+    protected abstract boolean contains(String text, String part);
+
+    private boolean matches(Document document, String keyword, String author) {
+        if (keyword != null && !containsIn(document.title(), keyword) && !containsIn(document.author(), keyword)) {
+            return false;
+        }
+        return author == null || containsIn(document.author(), author);
+    }
+
+    private boolean containsIn(String text, String part) {
+        return text != null && contains(text, part);
+    }
+
+    // 정렬된 두 gram 배열을 비교하여 바뀐 gram의 posting만 갱신
+    private void updateGrams(int id, int[] previous, int[] current) {
+        int i = 0;
+        int j = 0;
+        while (i < previous.length || j < current.length) {
+            if (j == current.length || (i < previous.length && previous[i] < current[j])) {
+                removeGram(previous[i++], id);
+            } else if (i == previous.length || current[j] < previous[i]) {
+                gramPostings.computeIfAbsent(current[j++], key -> new IntPostings()).add(id);
+            } else {
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private void removeGram(int gram, int id) {
+        IntPostings postings = gramPostings.get(gram);
+        if (postings != null && postings.remove(id) && postings.isEmpty()) {
+            gramPostings.remove(gram);
+        }
+    }
+
+    private void addCategory(String category, int id) {
+        if (category != null) {
+            categoryPostings.computeIfAbsent(category, key -> new IntPostings()).add(id);
+        }
+    }
+
+    private void removeCategory(String category, int id) {
+        if (category == null) {
+            return;
+        }
+        IntPostings postings = categoryPostings.get(category);
+        if (postings != null && postings.remove(id) && postings.isEmpty()) {
+            categoryPostings.remove(category);
+        }
+    }
+
+    static int toDocumentId(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,322 @@
+package com.library.search;
+
+import com.library.domain.book.BookSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 관련도 정렬용 BM25 점수 인덱스
+ *
+ * 제목/저자/설명의 단어 빈도를 필드 가중치를 곱해 합산(BM25F 방식)하여 도서별로 보관합니다.
+ * 검색 조건에 맞는 후보 id 목록은 다른 인덱스(InvertedBookIndex, FuzzyBookIndex)에서 받고,
+ * 이 인덱스는 후보에 점수만 매겨 고정 크기 힙으로 상위 k개를 고릅니다. 전체 후보를 정렬하지 않습니다.
+ *
+ * 한 글자 검색어처럼 후보가 매우 많은 경우에도 GC 부담이 없도록, 후보별 점수 계산은 객체를 생성하지 않습니다.
+ * (도서는 id로 바로 접근하는 배열에, 단어 빈도는 단어 id 오름차순 기본형 배열에 보관)
+ */
+@Component
+public class RelevanceBookIndex implements CatalogIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float AUTHOR_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int[] EMPTY = new int[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final Deque<Integer> freeTermIds = new ArrayDeque<>();
+    private String[] termTexts = new String[1024];
+    private int[] documentFrequencies = new int[1024];
+    private int nextTermId = 0;
+    // 도서 id(PK)를 그대로 위치로 사용 (PK는 1부터 증가하는 값)
+    private Document[] documents = new Document[1024];
+    private int documentCount = 0;
+    private double totalLength = 0;
+
+    /**
+     * @param terms       단어 id (오름차순)
+     * @param frequencies terms와 같은 위치의 가중 빈도
+     * @param length      가중 문서 길이
+     */
+    private record Document(int[] terms, float[] frequencies, float length) {
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            freeTermIds.clear();
+            termTexts = new String[1024];
+            documentFrequencies = new int[1024];
+            nextTermId = 0;
+            documents = new Document[1024];
+            documentCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = addTerms(frequencies, book.title(), TITLE_WEIGHT)
+                + addTerms(frequencies, book.author(), AUTHOR_WEIGHT)
+                + addTerms(frequencies, book.description(), DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            detach(id);
+
+            // 단어 id 오름차순으로 정렬하여 조회 시 이진 탐색
+            Map<Integer, Float> byTermId = new TreeMap<>();
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                int termId = termIdFor(entry.getKey());
+                documentFrequencies[termId]++;
+                byTermId.put(termId, entry.getValue());
+            }
+            int[] terms = new int[byTermId.size()];
+            float[] weights = new float[byTermId.size()];
+            int count = 0;
+            for (Map.Entry<Integer, Float> entry : byTermId.entrySet()) {
+                terms[count] = entry.getKey();
+                weights[count++] = entry.getValue();
+            }
+
+            if (id >= documents.length) {
+                documents = Arrays.copyOf(documents, Math.max(id + 1, documents.length * 2));
+            }
+            documents[id] = new Document(terms, weights, length);
+            documentCount++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookSnapshot book) {
+        int id = InvertedBookIndex.toDocumentId(book.id());
+
+        lock.writeLock().lock();
+        try {
+            detach(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 도서를 검색어에 대한 BM25 점수로 평가하여 상위 limit개의 id를 점수 내림차순으로 반환합니다.
+     * 점수가 같으면 id 오름차순이며, 검색어가 없으면 모든 점수가 0이므로 id 오름차순이 됩니다.
+     *
+     * @param candidates 검색 조건에 맞는 도서 id 목록
+     * @param keyword    점수를 계산할 검색어
+     * @param limit      반환할 최대 개수
+     */
+    public int[] topK(int[] candidates, String keyword, int limit) {
+        int k = Math.min(limit, candidates.length);
+        if (k <= 0) {
+            return EMPTY;
+        }
+
+        List<String> queryTerms = SearchTextAnalyzer.terms(SearchTextAnalyzer.normalize(keyword));
+
+        lock.readLock().lock();
+        try {
+            // 검색어 단어별 id와 IDF는 조회당 한 번만 계산
+            int[] queryTermIds = new int[queryTerms.size()];
+            float[] idfs = new float[queryTerms.size()];
+            int queryTermCount = 0;
+            for (String term : queryTerms) {
+                Integer termId = termIds.get(term);
+                if (termId == null || contains(queryTermIds, queryTermCount, termId)) {
+                    continue;
+                }
+                queryTermIds[queryTermCount] = termId;
+                idfs[queryTermCount] = idf(documentFrequencies[termId]);
+                queryTermCount++;
+            }
+
+            float averageLength = documentCount == 0 ? 1.0f : (float) (totalLength / documentCount);
+            TopK top = new TopK(k);
+            for (int id : candidates) {
+                top.offer(id, score(id, queryTermIds, idfs, queryTermCount, averageLength));
+            }
+            return top.toSortedIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private float score(int id, int[] queryTermIds, float[] idfs, int queryTermCount, float averageLength) {
+        Document document = id < documents.length ? documents[id] : null;
+        if (document == null || queryTermCount == 0) {
+            return 0.0f;
+        }
+
+        float lengthNorm = K1 * (1 - B + B * document.length() / averageLength);
+        float score = 0.0f;
+        for (int i = 0; i < queryTermCount; i++) {
+            int position = Arrays.binarySearch(document.terms(), queryTermIds[i]);
+            if (position >= 0) {
+                float frequency = document.frequencies()[position];
+                score += idfs[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+            }
+        }
+        return score;
+    }
+
+    // BM25 IDF (항상 양수가 되도록 1을 더한 형태)
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private float addTerms(Map<String, Float> frequencies, String text, float weight) {
+        List<String> terms = SearchTextAnalyzer.terms(SearchTextAnalyzer.normalize(text));
+        for (String term : terms) {
+            frequencies.merge(term, weight, Float::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private void detach(int id) {
+        Document previous = id < documents.length ? documents[id] : null;
+        if (previous == null) {
+            return;
+        }
+
+        documents[id] = null;
+        documentCount--;
+        totalLength -= previous.length();
+        for (int termId : previous.terms()) {
+            if (--documentFrequencies[termId] == 0) {
+                releaseTermId(termId);
+            }
+        }
+    }
+
+    private int termIdFor(String term) {
+        Integer termId = termIds.get(term);
+        if (termId != null) {
+            return termId;
+        }
+
+        int newId = freeTermIds.isEmpty() ? nextTermId++ : freeTermIds.pop();
+        if (newId >= documentFrequencies.length) {
+            termTexts = Arrays.copyOf(termTexts, termTexts.length * 2);
+            documentFrequencies = Arrays.copyOf(documentFrequencies, documentFrequencies.length * 2);
+        }
+        termTexts[newId] = term;
+        termIds.put(term, newId);
+        return newId;
+    }
+
+    // 더 이상 어떤 도서에도 없는 단어의 id는 재사용하여 단어 사전이 계속 커지지 않도록 함
+    private void releaseTermId(int termId) {
+        termIds.remove(termTexts[termId]);
+        termTexts[termId] = null;
+        freeTermIds.push(termId);
+    }
+
+    /**
+     * 점수 상위 k개를 유지하는 고정 크기 최소 힙 (기본형 배열 기반)
+     * 루트는 현재 k개 중 가장 낮은 순위(점수가 낮고, 같으면 id가 큰) 항목입니다.
+     */
+    private static final class TopK {
+        private final int[] ids;
+        private final float[] scores;
+        private int size = 0;
+
+        TopK(int capacity) {
+            this.ids = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void offer(int id, float score) {
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (ranksAbove(id, score, ids[0], scores[0])) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0, size);
+            }
+        }
+
+        // 힙에서 가장 낮은 순위를 하나씩 배열 끝으로 보내 순위 순으로 정렬 (힙 정렬)
+        int[] toSortedIds() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksAbove(ids[parent], scores[parent], ids[index], scores[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int limit) {
+            while (true) {
+                int lowest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < limit && ranksAbove(ids[lowest], scores[lowest], ids[left], scores[left])) {
+                    lowest = left;
+                }
+                if (right < limit && ranksAbove(ids[lowest], scores[lowest], ids[right], scores[right])) {
+                    lowest = right;
+                }
+                if (lowest == index) {
+                    return;
+                }
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        private static boolean ranksAbove(int id, float score, int otherId, float otherScore) {
+            return score > otherScore || (score == otherScore && id < otherId);
+        }
+
+        private void swap(int i, int j) {
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+}
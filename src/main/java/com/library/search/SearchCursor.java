@@ -0,0 +1,43 @@
+package com.library.search;
+
+import com.library.exception.BusinessException;
+import com.library.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 커서(keyset) 인코딩/디코딩
+ * 커서는 직전 페이지 마지막 도서의 id(PK)를 감싼 불투명 문자열이며, 클라이언트는 값을 해석하지 않고 그대로 돌려보냅니다.
+ */
+public final class SearchCursor {
+
+    private static final String PREFIX = "id:";
+
+    private SearchCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 직전 페이지 마지막 도서 id로 변환합니다. 빈 커서는 첫 페이지(0)를 의미합니다.
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 검색 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 검색 커서입니다.");
+        }
+    }
+}
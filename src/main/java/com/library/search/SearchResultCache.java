@@ -0,0 +1,132 @@
+package com.library.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.library.concurrent.SingleFlight;
+import com.library.config.SearchProperties;
+import com.library.domain.book.BookChangedEvent;
+import com.library.domain.book.BookSnapshot;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.domain.loan.LoanReturnedEvent;
+import com.library.dto.search.SearchDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 도서 검색 결과 캐시
+ *
+ * 정규화된 검색 조건과 "세대(epoch)"를 키로 사용합니다.
+ * 카테고리 조건이 있는 검색은 해당 카테고리의 세대를, 카테고리 조건이 없는 검색은 전체 세대를 키에 포함하며,
+ * 도서가 등록/수정/삭제되거나 대출/반납되면 관련 세대를 올려 이전 결과가 더 이상 조회되지 않도록 합니다.
+ * (검색 결과에는 재고 수량(copiesAvailable)과 대출 가능 facet 건수가 포함되므로 대출/반납도 결과를 바꿉니다)
+ * 더 이상 조회되지 않는 항목은 크기 제한과 TTL에 따라 자연스럽게 제거됩니다.
+ *
+ * 적중/실패/제거 지표는 actuator의 cache.* 메트릭(cache=search.results)으로 확인할 수 있습니다.
+ */
+@Component
+public class SearchResultCache {
+
+    private static final String CACHE_NAME = "search.results";
+
+    private final Cache<Key, SearchDto.SearchResponse> cache;
+    private final SingleFlight singleFlight;
+    private final AtomicLong globalEpoch = new AtomicLong();
+    private final Map<String, AtomicLong> categoryEpochs = new ConcurrentHashMap<>();
+
+    private record Key(long epoch, String keyword, String category, String author,
+                       int page, int size, String cursor, boolean includeTotal, boolean fuzzy, String sort) {
+    }
+
+    public SearchResultCache(SearchProperties searchProperties, MeterRegistry meterRegistry, SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(searchProperties.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(searchProperties.getCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 loader로 계산하여 저장합니다.
+     * 같은 키를 동시에 요청하면 loader는 한 번만 실행됩니다 (SingleFlight, operation=searchBooks).
+     * loader를 캐시 내부 계산(compute) 밖에서 실행하므로, DB 조회 중에 다른 키의 캐시 갱신이 막히지 않습니다.
+     */
+    public SearchDto.SearchResponse get(SearchDto.SearchRequest request, Supplier<SearchDto.SearchResponse> loader) {
+        // 세대는 계산 전에 읽어야 계산 도중 발생한 변경이 이전 세대 키로만 저장됩니다.
+        Key key = new Key(
+                currentEpoch(request.getCategory()),
+                SearchTextAnalyzer.normalize(request.getKeyword()),
+                request.getCategory(),
+                SearchTextAnalyzer.normalize(request.getAuthor()),
+                request.isCursorMode() ? 0 : request.getPage(),
+                request.getSize(),
+                request.getCursor(),
+                request.isIncludeTotal(),
+                request.isFuzzy(),
+                request.getSort());
+        SearchDto.SearchResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.execute("searchBooks", key, () -> {
+            // 직전 leader가 방금 저장한 결과가 있으면 다시 조회하지 않음
+            SearchDto.SearchResponse loaded = cache.getIfPresent(key);
+            if (loaded == null) {
+                loaded = loader.get();
+                cache.put(key, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    // 인메모리 인덱스가 먼저 갱신된 뒤에 세대를 올리도록 CatalogIndexer 보다 늦게 실행
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        bumpCategory(event.before());
+        bumpCategory(event.after());
+        globalEpoch.incrementAndGet();
+    }
+
+    // facet 인덱스(FacetBookIndex)의 대출 가능 여부가 먼저 갱신된 뒤에 세대를 올림
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        bumpCategory(event.book());
+        globalEpoch.incrementAndGet();
+    }
+
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        bumpCategory(event.book());
+        globalEpoch.incrementAndGet();
+    }
+
+    private void bumpCategory(BookSnapshot book) {
+        if (book != null && book.category() != null) {
+            categoryEpochs.computeIfAbsent(book.category(), category -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private long currentEpoch(String category) {
+        if (category == null) {
+            return globalEpoch.get();
+        }
+        // 임의의 카테고리 검색어로 맵이 커지지 않도록 조회 시에는 세대를 만들지 않음 (없으면 0세대)
+        AtomicLong epoch = categoryEpochs.get(category);
+        return epoch == null ? 0L : epoch.get();
+    }
+}
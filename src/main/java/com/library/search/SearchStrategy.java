@@ -0,0 +1,16 @@
+package com.library.search;
+
+import com.library.dto.search.SearchDto;
+
+/**
+ * 도서 검색 전략
+ * library.search.strategy 설정으로 구현체를 선택합니다 (in-memory: 인메모리 인덱스, full-text: DB 전문 검색 인덱스).
+ */
+public interface SearchStrategy {
+
+    /**
+     * 검색 조건에 맞는 도서 페이지를 조회합니다.
+     * 정렬/커서 조합 검증은 호출 측(SearchService)에서 먼저 수행합니다.
+     */
+    SearchDto.SearchResponse search(SearchDto.SearchRequest request);
+}
@@ -0,0 +1,252 @@
+package com.library.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 텍스트 정규화 및 n-gram 토큰화 유틸리티
+ *
+ * 한글 처리 규칙
+ * - NFC 정규화: macOS 등에서 자모가 분리된(NFD) 형태로 입력된 한글을 완성형 음절로 합칩니다.
+ * - 음절 단위 bigram: 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많으므로 공백을 포함한 원문 전체에서 bigram을 만듭니다.
+ * - 비 ASCII 문자(한글 음절, 한자 등)는 한 글자만으로도 변별력이 높아 unigram도 함께 색인합니다.
+ *   ASCII 한 글자는 대부분의 도서에 포함되어 색인 효과가 없으므로 색인하지 않습니다.
+ */
+public final class SearchTextAnalyzer {
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private SearchTextAnalyzer() {
+    }
+
+    /**
+     * 검색 비교용 형태로 정규화합니다 (NFC, 소문자, 연속 공백 축약, 앞뒤 공백 제거).
+     * 정규화 결과가 비어 있으면 null을 반환합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+        }
+
+        return builder.length() == 0 ? null : builder.toString();
+    }
+
+    /**
+     * 정규화된 텍스트를 색인할 때 사용할 gram 목록을 중복 없이 오름차순으로 반환합니다.
+     */
+    public static int[] indexGrams(String normalized) {
+        if (normalized == null || normalized.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] grams = new int[normalized.length() * 2];
+        int count = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c > 0x7F && !Character.isWhitespace(c)) {
+                grams[count++] = unigram(c);
+            }
+            if (i + 1 < normalized.length()) {
+                grams[count++] = bigram(c, normalized.charAt(i + 1));
+            }
+        }
+
+        return distinctSorted(grams, count);
+    }
+
+    /**
+     * 정규화된 검색어가 포함된 문서라면 반드시 가지고 있어야 하는 gram 목록을 반환합니다.
+     * ASCII 한 글자처럼 색인되지 않는 검색어는 빈 배열을 반환하며, 이 경우 호출 측에서 전체 후보를 검증해야 합니다.
+     */
+    public static int[] queryGrams(String normalized) {
+        if (normalized == null || normalized.isEmpty()) {
+            return EMPTY;
+        }
+
+        if (normalized.length() == 1) {
+            char c = normalized.charAt(0);
+            return c > 0x7F ? new int[] { unigram(c) } : EMPTY;
+        }
+
+        int[] grams = new int[normalized.length() - 1];
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams[i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+        }
+
+        return distinctSorted(grams, grams.length);
+    }
+
+    /**
+     * 정규화된 텍스트를 문자/숫자 연속 구간(단어) 단위로 나눕니다.
+     */
+    public static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        if (normalized == null) {
+            return words;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 관련도(BM25) 계산에 사용할 단어(term) 목록을 반환합니다 (빈도 계산을 위해 중복 유지).
+     * 영문/숫자 단어는 그대로 사용하고, 한글 등 비 ASCII 문자가 포함된 단어는 조사가 붙어도 일치하도록
+     * 음절 bigram으로 나눕니다 (한 글자 단어는 그대로 사용).
+     * 예) "해리포터와 마법사" -> [해리, 리포, 포터, 터와, 마법, 법사]
+     */
+    public static List<String> terms(String normalized) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(normalized)) {
+            if (word.length() == 1 || word.chars().allMatch(c -> c <= 0x7F)) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모(호환용 자모)로 분해합니다. 한글 음절이 아닌 문자는 그대로 둡니다.
+     * 예) "롤링" -> "ㄹㅗㄹㄹㅣㅇ"
+     * 오타 허용 검색에서 받침 하나가 틀린 경우를 음절 전체가 아닌 자모 하나의 차이로 계산하기 위해 사용합니다.
+     */
+    public static String decomposeHangul(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isHangulSyllable(c)) {
+                builder.append(c);
+                continue;
+            }
+            int offset = c - HANGUL_BASE;
+            builder.append(chosungOf(c));
+            builder.append(JUNGSEONG[(offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT]);
+            int jongseong = offset % JONGSEONG_COUNT;
+            if (jongseong > 0) {
+                builder.append(JONGSEONG[jongseong - 1]);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절을 초성(호환용 자모)으로 바꿉니다. 한글 음절이 아닌 문자는 그대로 둡니다.
+     * 예) "해리 포터" -> "ㅎㄹ ㅍㅌ"
+     */
+    public static String chosung(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isHangulSyllable(chars[i])) {
+                chars[i] = chosungOf(chars[i]);
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 텍스트에 초성 검색용 자음(호환용 자모 ㄱ~ㅎ)이 포함되어 있는지 확인합니다.
+     */
+    public static boolean containsChosung(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isChosung(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    /**
+     * 한글 음절의 초성을 반환합니다. 한글 음절이 아니면 그대로 반환합니다.
+     */
+    public static char chosungOf(char c) {
+        return isHangulSyllable(c) ? CHOSEONG[(c - HANGUL_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)] : c;
+    }
+
+    /**
+     * 정렬된 두 gram 배열을 하나의 정렬된 배열로 합칩니다 (중복 제거).
+     */
+    public static int[] union(int[] left, int[] right) {
+        int[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return distinctSorted(merged, merged.length);
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        // 정규화된 텍스트에는 '\0'이 없으므로 unigram(c)과 bigram이 겹치지 않습니다.
+        return (first << 16) | second;
+    }
+
+    private static int[] distinctSorted(int[] values, int length) {
+        Arrays.sort(values, 0, length);
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            if (size == 0 || values[size - 1] != values[i]) {
+                values[size++] = values[i];
+            }
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
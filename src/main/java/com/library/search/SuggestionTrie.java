@@ -0,0 +1,404 @@
+package com.library.search;
+
+import com.library.domain.book.BookSnapshot;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.dto.search.SearchDto;
+import com.library.repository.LoanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 압축 트라이(radix trie)
+ *
+ * 도서 제목, 저자, 카테고리를 정규화된 문자열 기준으로 색인하고,
+ * 각 노드에 하위 항목 중 대출 횟수가 많은 상위 {@value #MAX_SUGGESTIONS}개를 캐시합니다.
+ * 상위 목록은 변경된 경로의 노드만 비우고 다음 조회 시 자식 노드의 상위 목록을 병합하여 다시 계산하므로,
+ * 조회는 접두어 길이에 비례하고 DB를 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestionTrie implements CatalogIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Term[] NO_TERMS = new Term[0];
+    private static final Comparator<Term> BY_POPULARITY = Comparator
+            .comparingLong((Term term) -> term.loanCount).reversed()
+            .thenComparing(Comparator.comparingInt((Term term) -> term.references).reversed())
+            .thenComparing(term -> term.text);
+
+    private final LoanRepository loanRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Term> terms = new HashMap<>();
+    private final Map<Long, BookEntry> books = new HashMap<>();
+    private Map<Long, Long> initialLoanCounts = new HashMap<>();
+    private Node root = new Node("");
+
+    enum Type {
+        TITLE,
+        AUTHOR,
+        CATEGORY
+    }
+
+    private static final class Term {
+        final Type type;
+        final String key;
+        final String text;
+        long loanCount;
+        int references;
+
+        Term(Type type, String key, String text) {
+            this.type = type;
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    private static final class Node {
+        String label;
+        Node[] children = NO_CHILDREN;
+        Term[] terms = NO_TERMS;
+        volatile Term[] top;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record BookEntry(Term[] terms, long loanCount) {
+    }
+
+    /**
+     * 전체 재적재 직전에 호출되며, 이때 도서별 대출 횟수도 함께 다시 읽습니다.
+     */
+    @Override
+    public void clear() {
+        Map<Long, Long> loanCounts = new HashMap<>();
+        for (Object[] row : loanRepository.countLoansGroupByBook()) {
+            loanCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            books.clear();
+            initialLoanCounts = loanCounts;
+            root = new Node("");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(BookSnapshot book) {
+        lock.writeLock().lock();
+        try {
+            BookEntry previous = books.remove(book.id());
+            long loanCount = previous != null ? previous.loanCount() : initialLoanCounts.getOrDefault(book.id(), 0L);
+            if (previous != null) {
+                detach(previous);
+            }
+
+            List<Term> attached = new ArrayList<>(3);
+            attach(Type.TITLE, book.title(), loanCount, attached);
+            attach(Type.AUTHOR, book.author(), loanCount, attached);
+            attach(Type.CATEGORY, book.category(), loanCount, attached);
+            books.put(book.id(), new BookEntry(attached.toArray(NO_TERMS), loanCount));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookSnapshot book) {
+        lock.writeLock().lock();
+        try {
+            BookEntry previous = books.remove(book.id());
+            if (previous != null) {
+                detach(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            BookEntry entry = books.get(event.book().id());
+            if (entry == null) {
+                return;
+            }
+            books.put(event.book().id(), new BookEntry(entry.terms(), entry.loanCount() + 1));
+            for (Term term : entry.terms()) {
+                term.loanCount++;
+                invalidatePath(term.key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목/저자/카테고리를 대출 횟수 순으로 반환합니다.
+     */
+    public List<SearchDto.Suggestion> suggest(String prefix, int limit) {
+        String normalized = SearchTextAnalyzer.normalize(prefix);
+        if (normalized == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = findPrefixNode(normalized);
+            if (node == null) {
+                return new ArrayList<>();
+            }
+
+            Term[] top = top(node);
+            List<SearchDto.Suggestion> suggestions = new ArrayList<>(Math.min(limit, top.length));
+            for (int i = 0; i < top.length && i < limit; i++) {
+                suggestions.add(SearchDto.Suggestion.builder()
+                        .text(top[i].text)
+                        .type(top[i].type.name())
+                        .loanCount(top[i].loanCount)
+                        .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void attach(Type type, String text, long loanCount, List<Term> attached) {
+        String key = SearchTextAnalyzer.normalize(text);
+        if (key == null) {
+            return;
+        }
+
+        Term term = terms.get(type + ":" + key);
+        if (term == null) {
+            term = new Term(type, key, text.trim());
+            terms.put(type + ":" + key, term);
+            insert(term);
+        }
+        term.references++;
+        term.loanCount += loanCount;
+        invalidatePath(key);
+        attached.add(term);
+    }
+
+    private void detach(BookEntry entry) {
+        for (Term term : entry.terms()) {
+            term.references--;
+            term.loanCount -= entry.loanCount();
+            if (term.references == 0) {
+                terms.remove(term.type + ":" + term.key);
+                delete(term);
+            }
+            invalidatePath(term.key);
+        }
+    }
+
+    private void insert(Term term) {
+        String key = term.key;
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = childIndex(node, key.charAt(offset));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(offset));
+                leaf.terms = new Term[] { term };
+                node.children = insertChild(node.children, -index - 1, leaf);
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, offset);
+            if (common < child.label.length()) {
+                // 기존 간선을 공통 접두어 지점에서 분할
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[] { child };
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            offset += common;
+        }
+        node.terms = Arrays.copyOf(node.terms, node.terms.length + 1);
+        node.terms[node.terms.length - 1] = term;
+    }
+
+    private void delete(Term term) {
+        List<Node> path = findPath(term.key);
+        if (path == null) {
+            return;
+        }
+
+        Node node = path.get(path.size() - 1);
+        node.terms = Arrays.stream(node.terms).filter(candidate -> candidate != term).toArray(Term[]::new);
+
+        // 비어 있는 잎 노드는 부모에서 제거
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            if (current.terms.length > 0 || current.children.length > 0) {
+                break;
+            }
+            Node parent = path.get(i - 1);
+            parent.children = Arrays.stream(parent.children).filter(child -> child != current).toArray(Node[]::new);
+        }
+    }
+
+    // 루트부터 key가 끝나는 노드까지의 경로 (key 전체가 간선 경계와 맞지 않으면 null)
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = childIndex(node, key.charAt(offset));
+            if (index < 0) {
+                return null;
+            }
+            node = node.children[index];
+            if (!key.startsWith(node.label, offset)) {
+                return null;
+            }
+            offset += node.label.length();
+            path.add(node);
+        }
+        return path;
+    }
+
+    // 접두어로 시작하는 모든 항목을 하위에 가지는 가장 위쪽 노드
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = childIndex(node, prefix.charAt(offset));
+            if (index < 0) {
+                return null;
+            }
+            node = node.children[index];
+            int common = commonPrefixLength(node.label, prefix, offset);
+            if (offset + common == prefix.length()) {
+                return node;
+            }
+            if (common < node.label.length()) {
+                return null;
+            }
+            offset += common;
+        }
+        return node;
+    }
+
+    // key 경로상 노드의 상위 목록 캐시를 비움 (다음 조회 시 다시 계산)
+    private void invalidatePath(String key) {
+        Node node = root;
+        node.top = null;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = childIndex(node, key.charAt(offset));
+            if (index < 0) {
+                return;
+            }
+            node = node.children[index];
+            node.top = null;
+            int common = commonPrefixLength(node.label, key, offset);
+            if (common < node.label.length()) {
+                return;
+            }
+            offset += common;
+        }
+    }
+
+    /**
+     * 노드의 상위 목록을 반환합니다. 캐시가 비어 있으면 자신의 항목과 자식들의 상위 목록을 병합하여 계산합니다.
+     * 읽기 락 안에서 여러 스레드가 동시에 계산할 수 있지만, 같은 상태에서 계산한 같은 결과를 저장하므로 안전합니다.
+     */
+    private Term[] top(Node node) {
+        Term[] cached = node.top;
+        if (cached != null) {
+            return cached;
+        }
+
+        Term[] best = new Term[MAX_SUGGESTIONS];
+        int size = 0;
+        for (Term term : node.terms) {
+            size = offer(best, size, term);
+        }
+        for (Node child : node.children) {
+            for (Term term : top(child)) {
+                size = offer(best, size, term);
+            }
+        }
+
+        Term[] computed = Arrays.copyOf(best, size);
+        node.top = computed;
+        return computed;
+    }
+
+    // 인기순으로 정렬된 고정 크기 배열에 삽입
+    private int offer(Term[] best, int size, Term term) {
+        if (size == best.length && BY_POPULARITY.compare(term, best[size - 1]) >= 0) {
+            return size;
+        }
+
+        int position = size < best.length ? size : size - 1;
+        while (position > 0 && BY_POPULARITY.compare(term, best[position - 1]) < 0) {
+            best[position] = best[position - 1];
+            position--;
+        }
+        best[position] = term;
+        return Math.min(size + 1, best.length);
+    }
+
+    private int childIndex(Node node, char c) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = node.children[mid].label.charAt(0);
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private Node[] insertChild(Node[] children, int position, Node child) {
+        Node[] expanded = new Node[children.length + 1];
+        System.arraycopy(children, 0, expanded, 0, position);
+        expanded[position] = child;
+        System.arraycopy(children, position, expanded, position + 1, children.length - position);
+        return expanded;
+    }
+
+    private int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -1,5 +1,6 @@
 package com.library.service;
 
+import com.library.concurrent.SingleFlight;
 import com.library.domain.book.Book;
 import com.library.domain.loan.LoanStatus;
 import com.library.domain.reservation.ReservationStatus;
@@ -10,6 +11,7 @@ import com.library.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
@@ -25,10 +27,20 @@ public class AdminService {
     private final BookRepository bookRepository;
     private final LoanRepository loanRepository;
     private final ReservationRepository reservationRepository;
+    private final SingleFlight singleFlight;
 
     private static final int TOP_BOOKS_LIMIT = 10;
 
+    /**
+     * 동시에 들어온 요약 조회는 집계 쿼리를 한 번만 실행하고 결과를 공유합니다.
+     * 대기 중인 요청이 커넥션을 잡지 않도록 트랜잭션 없이 실행하며, 각 집계 쿼리는 개별적으로 실행됩니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminReportDto.SummaryResponse getLibrarySummary() {
+        return singleFlight.execute("getLibrarySummary", "summary", this::loadLibrarySummary);
+    }
+
+    private AdminReportDto.SummaryResponse loadLibrarySummary() {
         // 전체 도서 수
         long totalBooks = bookRepository.count();
 
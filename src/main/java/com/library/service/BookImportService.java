@@ -0,0 +1,357 @@
+package com.library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.concurrent.SnowflakeIdGenerator;
+import com.library.config.BookProperties;
+import com.library.domain.book.BookChangedEvent;
+import com.library.domain.book.BookSnapshot;
+import com.library.dto.book.BookDto;
+import com.library.dto.book.BookImportDto;
+import com.library.exception.BusinessException;
+import com.library.exception.ErrorCode;
+import com.library.repository.BookBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 일괄 등록 서비스
+ *
+ * 업로드 본문(CSV 또는 NDJSON)을 한 행씩 읽어 검증하고, 일정 건수(chunk)마다
+ * ISBN 중복을 쿼리 한 번으로 확인한 뒤 JDBC 배치로 등록합니다.
+ * 파일 전체를 메모리에 올리지 않으며, chunk 단위로 커밋하므로 실패한 행이 있어도 나머지 행은 등록됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookImportService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_AUTHOR_LENGTH = 100;
+    private static final int MAX_ISBN_LENGTH = 20;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final List<String> REQUIRED_COLUMNS =
+        List.of("title", "author", "isbn", "publisheddate", "category", "copiesavailable");
+
+    private final BookBatchRepository bookBatchRepository;
+    private final BookProperties bookProperties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public enum Format {
+        CSV,     // 첫 행은 헤더 (title,author,isbn,publishedDate,category,copiesAvailable,description)
+        NDJSON   // 한 줄에 BookDto.CreateRequest 형식의 JSON 하나
+    }
+
+    private record Row(long line, BookDto.CreateRequest request) {
+    }
+
+    /**
+     * 업로드 본문을 읽어 도서를 일괄 등록하고 행별 결과를 반환합니다.
+     * chunk마다 별도 트랜잭션으로 커밋하므로 전체를 감싸는 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookImportDto.Response importBooks(InputStream inputStream, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        int chunkSize = bookProperties.getImportChunkSize();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        List<BookImportDto.RowError> errors = new ArrayList<>();
+        Map<String, Integer> columns = null;
+        long totalRows = 0;
+        long imported = 0;
+        long line = 0;
+
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && !text.isEmpty() && text.charAt(0) == '\uFEFF') {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columns == null) {
+                columns = parseHeader(text);
+                continue;
+            }
+
+            totalRows++;
+            BookDto.CreateRequest request;
+            try {
+                request = format == Format.CSV ? parseCsvRow(text, columns) : parseJsonRow(text);
+            } catch (IllegalArgumentException e) {
+                errors.add(rowError(line, null, e.getMessage()));
+                continue;
+            }
+
+            String invalid = validate(request);
+            if (invalid != null) {
+                errors.add(rowError(line, request.getIsbn(), invalid));
+                continue;
+            }
+
+            chunk.add(new Row(line, request));
+            if (chunk.size() >= chunkSize) {
+                imported += importChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        imported += importChunk(chunk, errors);
+
+        errors.sort(Comparator.comparingLong(BookImportDto.RowError::getLine));
+        return BookImportDto.Response.builder()
+            .totalRows(totalRows)
+            .imported(imported)
+            .failed(errors.size())
+            .errors(errors)
+            .build();
+    }
+
+    /**
+     * chunk의 ISBN 중복을 확인하고 나머지 행을 등록합니다.
+     *
+     * @return 등록된 행 수
+     */
+    private int importChunk(List<Row> rows, List<BookImportDto.RowError> errors) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Row> byIsbn = new LinkedHashMap<>();
+        for (Row row : rows) {
+            if (byIsbn.putIfAbsent(row.request().getIsbn(), row) != null) {
+                errors.add(rowError(row.line(), row.request().getIsbn(), "파일 안에서 중복된 ISBN입니다."));
+            }
+        }
+
+        // 이전 chunk에서 등록된 ISBN도 여기서 걸러짐
+        Set<String> existingIsbns = bookBatchRepository.findExistingIsbns(byIsbn.keySet());
+        List<Row> insertable = new ArrayList<>(byIsbn.size());
+        for (Row row : byIsbn.values()) {
+            if (existingIsbns.contains(row.request().getIsbn())) {
+                errors.add(rowError(row.line(), row.request().getIsbn(), "이미 등록된 ISBN입니다."));
+            } else {
+                insertable.add(row);
+            }
+        }
+
+        try {
+            insert(insertable);
+            return insertable.size();
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 다른 요청이 같은 ISBN을 등록한 경우: 한 행씩 다시 등록하여 실패한 행만 보고
+            int inserted = 0;
+            for (Row row : insertable) {
+                try {
+                    insert(List.of(row));
+                    inserted++;
+                } catch (DuplicateKeyException duplicate) {
+                    errors.add(rowError(row.line(), row.request().getIsbn(), "이미 등록된 ISBN입니다."));
+                } catch (DataIntegrityViolationException violation) {
+                    errors.add(rowError(row.line(), row.request().getIsbn(),
+                        "도서를 등록할 수 없습니다: " + violation.getMostSpecificCause().getMessage()));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    // 커밋 후 이벤트로 인메모리 검색 인덱스와 검색 결과 캐시에 반영
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<BookSnapshot> books = rows.stream()
+            .map(row -> toSnapshot(row.request(), now))
+            .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status ->
+            bookBatchRepository.insertAll(books)
+                .forEach(book -> eventPublisher.publishEvent(BookChangedEvent.created(book))));
+    }
+
+    private BookSnapshot toSnapshot(BookDto.CreateRequest request, LocalDateTime now) {
+        return new BookSnapshot(
+            null,
+            idGenerator.nextId("b"),
+            request.getTitle(),
+            request.getAuthor(),
+            request.getIsbn(),
+            request.getPublishedDate(),
+            request.getCategory(),
+            request.getCopiesAvailable(),
+            request.getDescription(),
+            now,
+            now
+        );
+    }
+
+    /**
+     * POST /api/v1/books와 같은 검증(BookDto.CreateRequest 제약 조건)에 더해,
+     * 배치 전체가 실패하지 않도록 컬럼 길이를 미리 확인합니다.
+     *
+     * @return 검증 실패 사유 (통과하면 null)
+     */
+    private String validate(BookDto.CreateRequest request) {
+        Set<ConstraintViolation<BookDto.CreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+
+        List<String> tooLong = new ArrayList<>();
+        addIfTooLong(tooLong, "title", request.getTitle(), MAX_TITLE_LENGTH);
+        addIfTooLong(tooLong, "author", request.getAuthor(), MAX_AUTHOR_LENGTH);
+        addIfTooLong(tooLong, "isbn", request.getIsbn(), MAX_ISBN_LENGTH);
+        addIfTooLong(tooLong, "category", request.getCategory(), MAX_CATEGORY_LENGTH);
+        addIfTooLong(tooLong, "description", request.getDescription(), MAX_DESCRIPTION_LENGTH);
+        return tooLong.isEmpty() ? null : String.join(", ", tooLong);
+    }
+
+    private void addIfTooLong(List<String> messages, String field, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            messages.add(field + "은(는) " + maxLength + "자를 넘을 수 없습니다");
+        }
+    }
+
+    private BookDto.CreateRequest parseJsonRow(String text) {
+        try {
+            return objectMapper.readValue(text, BookDto.CreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * CSV 헤더의 컬럼 위치를 읽습니다. 컬럼 이름은 대소문자와 '_'를 구분하지 않습니다 (publishedDate, published_date).
+     */
+    private Map<String, Integer> parseHeader(String text) {
+        List<String> names = parseCsvLine(text);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().replace("_", "").toLowerCase(), i);
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+            .filter(column -> !columns.containsKey(column))
+            .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+        return columns;
+    }
+
+    private BookDto.CreateRequest parseCsvRow(String text, Map<String, Integer> columns) {
+        List<String> fields = parseCsvLine(text);
+        BookDto.CreateRequest request = new BookDto.CreateRequest();
+        request.setTitle(field(fields, columns, "title"));
+        request.setAuthor(field(fields, columns, "author"));
+        request.setIsbn(field(fields, columns, "isbn"));
+        request.setCategory(field(fields, columns, "category"));
+        request.setDescription(field(fields, columns, "description"));
+
+        String publishedDate = field(fields, columns, "publisheddate");
+        if (publishedDate != null) {
+            try {
+                request.setPublishedDate(LocalDate.parse(publishedDate.trim()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("출판일 형식이 올바르지 않습니다 (yyyy-MM-dd): " + publishedDate);
+            }
+        }
+
+        String copiesAvailable = field(fields, columns, "copiesavailable");
+        if (copiesAvailable != null) {
+            try {
+                request.setCopiesAvailable(Integer.parseInt(copiesAvailable.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("도서 수량이 숫자가 아닙니다: " + copiesAvailable);
+            }
+        }
+        return request;
+    }
+
+    // 비어 있는 값은 null로 처리하여 필수 값 검증에 걸리도록 함
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    /**
+     * CSV 한 행을 필드로 나눕니다 (RFC 4180: 큰따옴표로 감싼 필드 안의 쉼표, "" 이스케이프 지원).
+     * 한 레코드는 한 줄이어야 하며, 필드 안의 줄바꿈은 지원하지 않습니다.
+     */
+    private List<String> parseCsvLine(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private BookImportDto.RowError rowError(long line, String isbn, String message) {
+        return BookImportDto.RowError.builder()
+            .line(line)
+            .isbn(isbn)
+            .message(message)
+            .build();
+    }
+}
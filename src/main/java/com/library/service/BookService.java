@@ -1,17 +1,32 @@
 package com.library.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.library.cache.BookDetailCache;
+import com.library.concurrent.SnowflakeIdGenerator;
 import com.library.domain.book.Book;
+import com.library.domain.book.BookChangedEvent;
+import com.library.domain.book.BookSnapshot;
 import com.library.dto.book.BookDto;
 import com.library.dto.book.BookReservationDto;
 import com.library.repository.BookRepository;
+import com.library.repository.BookStreamRepository;
 import com.library.repository.LoanRepository;
 import com.library.repository.ReservationRepository;
 import com.library.domain.loan.LoanStatus;
 import com.library.domain.reservation.ReservationStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,9 +36,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookService {
     
+    private static final int NDJSON_FLUSH_INTERVAL = 500;
+    
     private final BookRepository bookRepository;
+    private final BookStreamRepository bookStreamRepository;
+    private final ObjectMapper objectMapper;
     private final LoanRepository loanRepository;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookDetailCache bookDetailCache;
+    private final SnowflakeIdGenerator idGenerator;
     
     @Transactional
     public BookDto.Response createBook(BookDto.CreateRequest request) {
@@ -34,6 +56,7 @@ public class BookService {
         
         // 도서 생성
         Book book = Book.createBook(
+            idGenerator.nextId("b"),
             request.getTitle(),
             request.getAuthor(),
             request.getIsbn(),
@@ -45,6 +68,7 @@ public class BookService {
         
         // 저장
         Book savedBook = bookRepository.save(book);
+        eventPublisher.publishEvent(BookChangedEvent.created(BookSnapshot.from(savedBook)));
         
         return BookDto.Response.from(savedBook);
     }
@@ -53,6 +77,7 @@ public class BookService {
     public BookDto.Response updateBook(String bookId, BookDto.UpdateRequest request) {
         Book book = bookRepository.findByBookId(bookId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
+        BookSnapshot before = BookSnapshot.from(book);
         
         boolean isUpdated = false;
         
@@ -100,6 +125,10 @@ public class BookService {
             book.setUpdatedAt(LocalDateTime.now());
         }
         
+        if (isUpdated) {
+            eventPublisher.publishEvent(BookChangedEvent.updated(before, BookSnapshot.from(book)));
+        }
+        
         return BookDto.Response.from(book);
     }
     
@@ -122,44 +151,87 @@ public class BookService {
         }
         
         bookRepository.delete(book);
+        eventPublisher.publishEvent(BookChangedEvent.deleted(BookSnapshot.from(book)));
     }
     
     public List<BookDto.SimpleResponse> getAllBooks() {
-        return bookRepository.findAll().stream()
+        return bookRepository.findAllSummaries().stream()
             .map(BookDto.SimpleResponse::from)
             .collect(Collectors.toList());
     }
     
+    /**
+     * 전체 도서를 NDJSON(한 줄에 도서 하나)으로 출력합니다.
+     * JDBC 커서로 읽은 각 행을 재사용하는 응답 객체에 담아 바로 쓰고 일정 건수마다 flush하므로,
+     * 도서 수와 관계없이 메모리 사용량이 일정하고 첫 응답이 바로 전송됩니다.
+     */
+    public void writeAllBooksAsNdjson(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BookDto.SimpleResponse.class)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        BookDto.SimpleResponse row = new BookDto.SimpleResponse();
+        int[] written = {0};
+        
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            bookStreamRepository.forEachBook(resultSet -> {
+                row.setBookId(resultSet.getString("book_id"));
+                row.setTitle(resultSet.getString("title"));
+                row.setAuthor(resultSet.getString("author"));
+                row.setCategory(resultSet.getString("category"));
+                int copiesAvailable = resultSet.getInt("copies_available");
+                row.setCopiesAvailable(resultSet.wasNull() ? null : copiesAvailable);
+                row.setPublishedDate(resultSet.getObject("published_date", LocalDate.class));
+                row.setIsbn(resultSet.getString("isbn"));
+                try {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                    if (++written[0] % NDJSON_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * 도서 상세 캐시(BookDetailCache)에 있으면 DB를 조회하지 않으며,
+     * 없을 때 같은 도서를 동시에 조회하면 DB 조회는 한 번만 실행하고 결과를 공유합니다.
+     * 대기 중인 요청이 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookDto.Response getBookDetail(String bookId) {
-        Book book = bookRepository.findByBookId(bookId)
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
+        BookSnapshot book = bookDetailCache.get(bookId, () -> bookRepository.findByBookId(bookId)
+            .map(BookSnapshot::from)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다.")));
         
         return BookDto.Response.from(book);
     }
     
     public List<BookDto.SimpleResponse> getBooksByCategory(String category) {
-        return bookRepository.findByCategory(category).stream()
+        return bookRepository.findSummariesByCategory(category).stream()
             .map(BookDto.SimpleResponse::from)
             .collect(Collectors.toList());
     }
 
+    /**
+     * 예약 가능한 도서 목록과 도서별 대기 예약 수, 사용자의 대기 순번을 조회합니다.
+     * 도서 수와 관계없이 집계 쿼리 한 번으로 처리합니다.
+     */
     public List<BookReservationDto> getBooksAvailableForReservation(String userId) {
-        // 대출 가능한 책이 없는 도서 목록 조회
-        List<Book> books = bookRepository.findBooksAvailableForReservation();
-        
-        return books.stream()
-            .<BookReservationDto>map(book -> {
-                // 현재 예약 수 조회
-                long currentReservations = bookRepository.countReservationsByBookAndStatus(book, ReservationStatus.RESERVED);
+        return bookRepository.findReservationQueueSummaries(userId, ReservationStatus.RESERVED).stream()
+            .map(row -> {
+                Book book = (Book) row[0];
+                long currentReservations = (Long) row[1];
+                long userReservations = (Long) row[2];
+                long reservationsAhead = (Long) row[3];
                 
-                // 사용자의 예약 순서 조회 (예약하지 않은 경우 null)
-                Integer userReservationOrder = null;
-                if (userId != null) {
-                    long userReservations = bookRepository.countUserReservationsByBookAndStatus(book, userId, ReservationStatus.RESERVED);
-                    if (userReservations > 0) {
-                        userReservationOrder = (int) userReservations;
-                    }
-                }
+                // 사용자의 예약 순번 (예약하지 않은 경우 null)
+                Integer userReservationOrder = userReservations > 0 ? (int) reservationsAhead + 1 : null;
                 
                 return BookReservationDto.builder()
                     .bookId(book.getBookId())
@@ -0,0 +1,133 @@
+package com.library.service;
+
+import com.library.concurrent.HierarchicalTimingWheel;
+import com.library.config.LoanProperties;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.domain.loan.LoanDueDate;
+import com.library.domain.loan.LoanExtendedEvent;
+import com.library.domain.loan.LoanReturnedEvent;
+import com.library.domain.loan.LoanStatus;
+import com.library.repository.LoanRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 연체 전환 타이머
+ *
+ * 대출 중인 대출마다 반납 예정일 다음 날 0시를 만료 시각으로 계층형 타이밍 휠에 등록해 두고,
+ * 만료된 대출을 library.loan.due-timer-tick-millis마다 최대 library.loan.due-timer-batch-size건씩
+ * 조건부 UPDATE 한 번(한 트랜잭션)으로 연체 상태로 바꿉니다.
+ * 같은 날 반납 예정인 대출이 많아도 작은 트랜잭션으로 나누어 처리하므로 자정에 긴 트랜잭션이 생기지 않습니다.
+ *
+ * 기동 직후 대출 중인 대출을 id 순으로 나누어 읽어 등록하고, 이후에는 커밋된 대출 생성/연장/반납 이벤트로 갱신합니다.
+ * UPDATE는 대출 중이고 반납 예정일이 지난 경우에만 반영되므로, 적재와 이벤트의 순서가 엇갈려도 잘못 전환되지 않습니다.
+ * 타이머는 인스턴스 메모리에만 있으므로 다른 인스턴스에서 생성된 대출이나 처리에 실패한 대출은
+ * 정기 보정 배치(OverdueLoanJob)가 정리합니다.
+ * 등록된 타이머 수와 전환 건수는 actuator의 library.loan.due.timers, library.loan.overdue.transitions 메트릭으로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class LoanDueScheduler {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final LoanRepository loanRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimingWheel<String> wheel;
+    private final int batchSize;
+    private final long retryDelayMillis;
+    private final Counter transitions;
+
+    public LoanDueScheduler(LoanRepository loanRepository, TransactionTemplate transactionTemplate,
+                            LoanProperties loanProperties, MeterRegistry meterRegistry) {
+        if (loanProperties.getDueTimerBatchSize() <= 0) {
+            throw new IllegalArgumentException("연체 전환 배치 크기는 1 이상이어야 합니다: " + loanProperties.getDueTimerBatchSize());
+        }
+        this.loanRepository = loanRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.wheel = new HierarchicalTimingWheel<>(loanProperties.getDueTimerTickMillis(), WHEEL_SIZE, System.currentTimeMillis());
+        this.batchSize = loanProperties.getDueTimerBatchSize();
+        this.retryDelayMillis = loanProperties.getDueTimerTickMillis() * WHEEL_SIZE;
+
+        Gauge.builder("library.loan.due.timers", wheel, HierarchicalTimingWheel::size)
+                .description("Loans waiting for their overdue transition")
+                .register(meterRegistry);
+        this.transitions = Counter.builder("library.loan.overdue.transitions")
+                .description("Loans marked overdue by the due-date timer")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        long lastId = 0L;
+        long loaded = 0L;
+        while (true) {
+            List<LoanDueDate> chunk = loanRepository.findDueDatesAfter(LoanStatus.LOANED, lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (LoanDueDate loan : chunk) {
+                wheel.schedule(loan.loanId(), deadline(loan.dueDate()));
+            }
+            lastId = chunk.get(chunk.size() - 1).id();
+            loaded += chunk.size();
+        }
+        log.info("연체 전환 타이머 적재 완료: {}건, {}ms", loaded, System.currentTimeMillis() - startTime);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        wheel.schedule(event.loanId(), deadline(event.dueDate()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanExtended(LoanExtendedEvent event) {
+        wheel.schedule(event.loanId(), deadline(event.dueDate()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        wheel.cancel(event.loanId());
+    }
+
+    @Scheduled(fixedDelayString = "${library.loan.due-timer-tick-millis}")
+    public void fireDueLoans() {
+        long now = System.currentTimeMillis();
+        List<String> loanIds = wheel.poll(now, batchSize);
+        if (loanIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Integer updated = transactionTemplate.execute(status -> loanRepository.markOverdueByLoanIds(
+                    loanIds, LoanStatus.LOANED, LoanStatus.OVERDUE, LocalDate.now(), LocalDateTime.now()));
+            transitions.increment(updated != null ? updated : 0);
+        } catch (RuntimeException e) {
+            // 일시적인 DB 오류 등: 잠시 뒤 다시 시도 (그 사이 반납되면 UPDATE 조건에서 제외됨)
+            log.warn("연체 전환 실패, {}ms 후 다시 시도합니다: {}건", retryDelayMillis, loanIds.size(), e);
+            loanIds.forEach(loanId -> wheel.schedule(loanId, now + retryDelayMillis));
+        }
+    }
+
+    // 반납 예정일이 지난 날(다음 날 0시)부터 연체
+    private static long deadline(LocalDate dueDate) {
+        return dueDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
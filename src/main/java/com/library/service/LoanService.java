@@ -1,25 +1,52 @@
 package com.library.service;
 
+import com.library.concurrent.BookLockManager;
+import com.library.concurrent.SnowflakeIdGenerator;
+import com.library.config.LoanProperties;
 import com.library.domain.book.Book;
+import com.library.domain.book.BookSnapshot;
 import com.library.domain.loan.Loan;
+import com.library.domain.loan.LoanCreatedEvent;
+import com.library.domain.loan.LoanExtendedEvent;
+import com.library.domain.loan.LoanHistoryCursor;
+import com.library.domain.loan.LoanReturnedEvent;
 import com.library.domain.loan.LoanStatus;
+import com.library.domain.loan.LoanSummary;
+import com.library.domain.reservation.Reservation;
 import com.library.domain.reservation.ReservationStatus;
 import com.library.domain.user.User;
 import com.library.dto.loan.LoanDto;
+import com.library.repository.BookInventoryRepository;
 import com.library.repository.BookRepository;
+import com.library.repository.LoanBatchRepository;
 import com.library.repository.LoanRepository;
+import com.library.repository.UserCounterRepository;
 import com.library.repository.UserRepository;
 import com.library.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -28,10 +55,36 @@ public class LoanService {
     private final LoanRepository loanRepository;
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
+    private final BookInventoryRepository bookInventoryRepository;
     private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SnowflakeIdGenerator idGenerator;
+    private final EntityManager entityManager;
+    private final BookLockManager bookLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final LoanBatchRepository loanBatchRepository;
+    private final UserCounterRepository userCounterRepository;
+    private final LoanProperties loanProperties;
     
-    @Transactional
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    
+    private record Checkout(int index, Book book) {
+    }
+    
+    private record Return(int index, Loan loan) {
+    }
+    
+    /**
+     * 같은 도서의 대출/반납/예약은 도서 잠금(BookLockManager)을 얻은 뒤 한 번에 하나씩 실행합니다.
+     * 대기 중인 요청이 커넥션을 잡지 않도록 트랜잭션은 잠금을 얻은 뒤에 시작합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoanDto.Response createLoan(LoanDto.CreateRequest request) {
+        return bookLockManager.execute(request.getBookId(), "createLoan",
+            () -> transactionTemplate.execute(status -> createLoanInTransaction(request)));
+    }
+    
+    private LoanDto.Response createLoanInTransaction(LoanDto.CreateRequest request) {
         // 사용자 확인
         User user = userRepository.findByUserId(request.getUserId())
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
@@ -40,67 +93,277 @@ public class LoanService {
         Book book = bookRepository.findByBookId(request.getBookId())
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
         
-        // 도서 대출 가능 여부 확인
-        if (book.getCopiesAvailable() <= 0) {
-            throw new IllegalStateException("대출 가능한 도서가 없습니다.");
+        // 사용자의 현재 대출 건수 확인 (최대 library.loan.max-books권으로 제한, 대출 이력을 세지 않고 카운터 컬럼만 읽음)
+        if (userCounterRepository.findActiveLoanCount(user.getId()) >= loanProperties.getMaxBooks()) {
+            throw new IllegalStateException(loanLimitExceededMessage());
         }
         
-        // 사용자의 현재 대출 건수 확인 (최대 5권으로 제한)
-        long userLoanCount = loanRepository.countByUserAndStatusNot(user, LoanStatus.RETURNED);
-        if (userLoanCount >= 5) {
-            throw new IllegalStateException("최대 대출 가능 권수(5권)를 초과했습니다.");
+        // 도서 대출 가능 여부 확인 및 수량 감소 (조건부 UPDATE 한 번으로 처리하여 동시 대출에도 초과 대출되지 않음)
+        // 대출 INSERT의 외래 키 확인보다 먼저 행 잠금을 잡아야 동시 대출 간 교착 상태가 생기지 않음
+        if (bookInventoryRepository.decrementCopiesAvailable(book.getId()) == 0) {
+            throw new IllegalStateException("대출 가능한 도서가 없습니다.");
         }
+        // 변경된 재고를 다시 읽으면서 이 도서의 2차 캐시 항목만 무효화
+        entityManager.refresh(book);
         
-        // 도서 수량 감소
-        book.setCopiesAvailable(book.getCopiesAvailable() - 1);
+        // 대출 수 증가 (도서 행 다음에 사용자 행 변경, 동시 대출로 한도에 도달했으면 재고 차감까지 롤백)
+        if (!userCounterRepository.addActiveLoans(user.getId(), 1, loanProperties.getMaxBooks())) {
+            throw new IllegalStateException(loanLimitExceededMessage());
+        }
         
         // 대출 생성
-        Loan loan = Loan.createLoan(user, book, request.getLoanDate(), request.getDueDate());
+        Loan loan = Loan.createLoan(idGenerator.nextId("l"), user, book, request.getLoanDate(), request.getDueDate());
         
         // 저장
         Loan savedLoan = loanRepository.save(loan);
         
         // 해당 도서에 대한 예약이 있었다면 완료 처리
         reservationRepository.findFirstByBookAndUserAndStatus(book, user, ReservationStatus.RESERVED)
-            .ifPresent(reservation -> {
-                reservation.complete();
-                reservationRepository.save(reservation);
-            });
+            .filter(this::completeReservation)
+            .ifPresent(reservation -> userCounterRepository.subtractActiveReservations(user.getId(), 1));
+        
+        eventPublisher.publishEvent(new LoanCreatedEvent(savedLoan.getLoanId(), savedLoan.getDueDate(), BookSnapshot.from(book)));
         
         return LoanDto.Response.from(savedLoan);
     }
     
+    /**
+     * 여러 권을 한 번에 대출합니다. 사용자 확인과 대출 건수 확인은 한 번만 하고, 항목별 결과를 요청 순서대로 반환합니다.
+     * 도서 잠금은 칸 번호 순서로, 재고 차감(행 잠금)은 도서 PK 순서로 얻으므로 겹치는 요청끼리 교착 상태가 생기지 않습니다.
+     * 재고가 없는 도서 등 실패한 항목은 건너뛰고, 나머지 대출은 JDBC 배치 한 번으로 등록하여 한 트랜잭션으로 커밋합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoanDto.BatchResponse createLoans(LoanDto.BatchCreateRequest request) {
+        return bookLockManager.executeAll(request.getBookIds(), "createLoans",
+            () -> transactionTemplate.execute(status -> createLoansInTransaction(request)));
+    }
+    
+    private LoanDto.BatchResponse createLoansInTransaction(LoanDto.BatchCreateRequest request) {
+        User user = userRepository.findByUserId(request.getUserId())
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        int remaining = loanProperties.getMaxBooks() - userCounterRepository.findActiveLoanCount(user.getId());
+        
+        // 요청 순서대로 남은 대출 가능 권수만큼 대출 대상을 정함
+        List<String> bookIds = request.getBookIds();
+        LoanDto.BatchItemResult[] results = new LoanDto.BatchItemResult[bookIds.size()];
+        Set<String> requested = new HashSet<>();
+        List<Checkout> checkouts = new ArrayList<>();
+        for (int i = 0; i < bookIds.size(); i++) {
+            String bookId = bookIds.get(i);
+            if (!requested.add(bookId)) {
+                results[i] = LoanDto.BatchItemResult.failure(bookId, null, "중복된 도서입니다.");
+                continue;
+            }
+            Optional<Book> book = bookRepository.findByBookId(bookId);
+            if (book.isEmpty()) {
+                results[i] = LoanDto.BatchItemResult.failure(bookId, null, "존재하지 않는 도서입니다.");
+            } else if (checkouts.size() >= remaining) {
+                results[i] = LoanDto.BatchItemResult.failure(bookId, null, loanLimitExceededMessage());
+            } else {
+                checkouts.add(new Checkout(i, book.get()));
+            }
+        }
+        
+        // 도서 PK 순서로 재고 차감 (행 잠금 순서 고정)
+        checkouts.sort(Comparator.comparing(checkout -> checkout.book().getId()));
+        List<Checkout> loaned = new ArrayList<>(checkouts.size());
+        for (Checkout checkout : checkouts) {
+            Book book = checkout.book();
+            if (bookInventoryRepository.decrementCopiesAvailable(book.getId()) == 0) {
+                results[checkout.index()] = LoanDto.BatchItemResult.failure(book.getBookId(), null, "대출 가능한 도서가 없습니다.");
+                continue;
+            }
+            entityManager.refresh(book);
+            loaned.add(checkout);
+        }
+        
+        // 도서 행 다음에 사용자 행을 잠그고 남은 권수를 다시 확인
+        // 처음 읽은 뒤 다른 대출이 먼저 커밋되어 남은 권수가 줄었다면, 요청 순서상 뒤쪽 도서부터 재고를 되돌리고 항목별 한도 초과로 처리
+        // (되돌리는 도서 행은 이미 이 트랜잭션이 잠근 행이므로 잠금 순서가 바뀌지 않음)
+        int allowed = Math.max(loanProperties.getMaxBooks() - userCounterRepository.lockActiveLoanCount(user.getId()), 0);
+        if (loaned.size() > allowed) {
+            loaned.sort(Comparator.comparingInt(Checkout::index));
+            List<Checkout> excess = loaned.subList(allowed, loaned.size());
+            for (Checkout checkout : excess) {
+                Book book = checkout.book();
+                bookInventoryRepository.incrementCopiesAvailable(book.getId());
+                entityManager.refresh(book);
+                results[checkout.index()] = LoanDto.BatchItemResult.failure(book.getBookId(), null, loanLimitExceededMessage());
+            }
+            excess.clear();
+        }
+        if (!loaned.isEmpty() && !userCounterRepository.addActiveLoans(user.getId(), loaned.size(), loanProperties.getMaxBooks())) {
+            throw new IllegalStateException(loanLimitExceededMessage());
+        }
+        
+        List<LoanBatchRepository.NewLoan> newLoans = new ArrayList<>(loaned.size());
+        for (Checkout checkout : loaned) {
+            newLoans.add(new LoanBatchRepository.NewLoan(idGenerator.nextId("l"), user.getId(), checkout.book().getId(),
+                request.getLoanDate(), request.getDueDate()));
+        }
+        loanBatchRepository.insertAll(newLoans, LocalDateTime.now());
+        
+        int completedReservations = 0;
+        for (int i = 0; i < loaned.size(); i++) {
+            Book book = loaned.get(i).book();
+            LoanBatchRepository.NewLoan loan = newLoans.get(i);
+            Optional<Reservation> reservation = reservationRepository.findFirstByBookAndUserAndStatus(book, user, ReservationStatus.RESERVED);
+            if (reservation.isPresent() && completeReservation(reservation.get())) {
+                completedReservations++;
+            }
+            eventPublisher.publishEvent(new LoanCreatedEvent(loan.loanId(), loan.dueDate(), BookSnapshot.from(book)));
+            results[loaned.get(i).index()] = LoanDto.BatchItemResult.success(book.getBookId(), loan.loanId(), loan.dueDate());
+        }
+        
+        if (completedReservations > 0) {
+            userCounterRepository.subtractActiveReservations(user.getId(), completedReservations);
+        }
+        
+        return LoanDto.BatchResponse.of(user.getUserId(), Arrays.asList(results));
+    }
+    
     public List<LoanDto.SimpleResponse> getLoansByUserId(String userId) {
         User user = userRepository.findByUserId(userId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
-        return loanRepository.findByUser(user).stream()
+        return loanRepository.findSummariesByUserId(user.getUserId()).stream()
             .map(LoanDto.SimpleResponse::from)
             .collect(Collectors.toList());
     }
     
-    @Transactional
+    /**
+     * 사용자의 대출 이력을 상태와 대출일 범위로 걸러 커서 기반으로 한 페이지씩 조회합니다.
+     * 페이지마다 도서를 조인한 조회 쿼리 한 번만 실행하며, 전체 건수는 집계하지 않습니다.
+     */
+    public LoanDto.HistoryResponse getLoanHistory(String userId, LoanStatus status, LocalDate from, LocalDate to,
+                                                  String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        User user = userRepository.findByUserId(userId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        
+        LoanHistoryCursor after = LoanHistoryCursor.decode(cursor);
+        // 한 건 더 읽어 다음 페이지 여부 확인
+        LocalDate cursorDate = after != null ? after.loanDate() : null;
+        Long cursorId = after != null ? after.id() : null;
+        // 상태 조건 유무에 따라 인덱스 순서로 읽을 수 있는 쿼리를 나누어 사용 (정렬 없이 한 페이지만 읽음)
+        List<LoanSummary> rows = status != null
+            ? loanRepository.findHistoryByStatus(user, status, from, to, cursorDate, cursorId, PageRequest.of(0, size + 1))
+            : loanRepository.findHistory(user, from, to, cursorDate, cursorId, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<LoanSummary> page = hasNext ? rows.subList(0, size) : rows;
+        
+        LoanDto.HistoryResponse response = new LoanDto.HistoryResponse();
+        response.setLoans(page.stream().map(LoanDto.SimpleResponse::from).collect(Collectors.toList()));
+        response.setHasNext(hasNext);
+        response.setNextCursor(hasNext ? LoanHistoryCursor.from(page.get(page.size() - 1)).encode() : null);
+        return response;
+    }
+    
+    /**
+     * 대출 기록의 도서 ID를 먼저 조회하여 해당 도서 잠금을 얻은 뒤 반납을 처리합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoanDto.Response returnBook(String loanId, LoanDto.ReturnRequest request) {
-        Loan loan = loanRepository.findByLoanId(loanId)
+        String bookId = loanRepository.findBookIdByLoanId(loanId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대출 기록입니다."));
         
-        if (loan.getStatus() == LoanStatus.RETURNED) {
+        return bookLockManager.execute(bookId, "returnBook",
+            () -> transactionTemplate.execute(status -> returnBookInTransaction(loanId)));
+    }
+    
+    private LoanDto.Response returnBookInTransaction(String loanId) {
+        // 반납 처리 (반납되지 않은 대출일 때만 변경하는 조건부 UPDATE, 다른 인스턴스가 먼저 반납했으면 0건)
+        // 대출 행을 먼저 잠그므로 같은 대출을 동시에 반납해도 재고와 대출 수는 한 번만 바뀜
+        if (loanRepository.markReturned(loanId, LoanStatus.RETURNED, LocalDateTime.now()) != 1) {
             throw new IllegalStateException("이미 반납된 도서입니다.");
         }
+        Loan loan = loanRepository.findByLoanId(loanId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대출 기록입니다."));
         
-        // 도서 수량 증가
+        // 도서 수량 증가 (읽은 값이 아닌 DB 값에 더하여 동시 반납이 서로 덮어쓰지 않음)
         Book book = loan.getBook();
-        book.setCopiesAvailable(book.getCopiesAvailable() + 1);
-        
-        // 반납 처리
-        loan.returnBook(LocalDateTime.now());
+        incrementCopiesAvailable(book);
+        userCounterRepository.subtractActiveLoans(loan.getUser().getId(), 1);
         
         // 반납 후 예약자에게 알림 처리를 위한 로직 (실제 알림 전송은 별도 서비스 필요)
         checkAndNotifyReservations(book);
         
+        eventPublisher.publishEvent(new LoanReturnedEvent(loan.getLoanId(), BookSnapshot.from(book)));
+        
         return LoanDto.Response.from(loan);
     }
     
+    /**
+     * 한 사용자의 대출 여러 건을 한 번에 반납합니다. 반납할 도서 잠금을 모두 얻은 뒤 한 트랜잭션으로 처리하며,
+     * 재고 증가는 도서 PK 순서로 실행합니다. 없는 대출, 다른 사용자의 대출, 이미 반납된 대출은 항목별 실패로 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoanDto.BatchResponse returnBooks(LoanDto.BatchReturnRequest request) {
+        List<String> bookIds = loanRepository.findBookIdsByLoanIdIn(request.getLoanIds());
+        
+        return bookLockManager.executeAll(bookIds, "returnBooks",
+            () -> transactionTemplate.execute(status -> returnBooksInTransaction(request)));
+    }
+    
+    private LoanDto.BatchResponse returnBooksInTransaction(LoanDto.BatchReturnRequest request) {
+        User user = userRepository.findByUserId(request.getUserId())
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        
+        // 이 사용자의 반납되지 않은 대출 행을 잠근 뒤 조건부 UPDATE 한 번으로 반납 처리
+        // (잠금 읽기는 커밋된 최신 상태를 읽으므로, 다른 인스턴스가 먼저 반납한 대출은 여기서 빠지고 항목별 실패로 반환)
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> returnable = new HashSet<>(
+            loanRepository.lockUnreturnedLoanIds(request.getLoanIds(), user, LoanStatus.RETURNED));
+        if (!returnable.isEmpty()
+                && loanRepository.markAllReturned(returnable, LoanStatus.RETURNED, now) != returnable.size()) {
+            throw new IllegalStateException("반납 처리 중 대출 상태가 변경되었습니다.");
+        }
+        // 반납 처리 후에 조회하므로 반납 상태가 반영된 대출을 읽음
+        Map<String, Loan> loans = loanRepository.findWithBookByLoanIdIn(request.getLoanIds()).stream()
+            .collect(Collectors.toMap(Loan::getLoanId, Function.identity()));
+        
+        List<String> loanIds = request.getLoanIds();
+        LoanDto.BatchItemResult[] results = new LoanDto.BatchItemResult[loanIds.size()];
+        Set<String> requested = new HashSet<>();
+        List<Return> returns = new ArrayList<>();
+        for (int i = 0; i < loanIds.size(); i++) {
+            String loanId = loanIds.get(i);
+            Loan loan = loans.get(loanId);
+            if (!requested.add(loanId)) {
+                results[i] = LoanDto.BatchItemResult.failure(null, loanId, "중복된 대출 기록입니다.");
+            } else if (loan == null) {
+                results[i] = LoanDto.BatchItemResult.failure(null, loanId, "존재하지 않는 대출 기록입니다.");
+            } else if (!loan.getUser().getId().equals(user.getId())) {
+                results[i] = LoanDto.BatchItemResult.failure(loan.getBook().getBookId(), loanId, "다른 사용자의 대출 기록입니다.");
+            } else if (!returnable.contains(loanId)) {
+                results[i] = LoanDto.BatchItemResult.failure(loan.getBook().getBookId(), loanId, "이미 반납된 도서입니다.");
+            } else {
+                returns.add(new Return(i, loan));
+            }
+        }
+        
+        // 도서 PK 순서로 재고 증가 (행 잠금 순서 고정)
+        returns.sort(Comparator.comparing(item -> item.loan().getBook().getId()));
+        for (Return item : returns) {
+            Loan loan = item.loan();
+            Book book = loan.getBook();
+            incrementCopiesAvailable(book);
+            checkAndNotifyReservations(book);
+            eventPublisher.publishEvent(new LoanReturnedEvent(loan.getLoanId(), BookSnapshot.from(book)));
+            results[item.index()] = LoanDto.BatchItemResult.success(book.getBookId(), loan.getLoanId(), loan.getDueDate());
+        }
+        if (!returns.isEmpty()) {
+            userCounterRepository.subtractActiveLoans(user.getId(), returns.size());
+        }
+        
+        return LoanDto.BatchResponse.of(user.getUserId(), Arrays.asList(results));
+    }
+    
     // 대출 연장 메서드 추가
     @Transactional
     public LoanDto.Response extendLoan(String loanId, LoanDto.ExtendRequest request) {
@@ -111,6 +374,8 @@ public class LoanService {
         int days = request.getDays() != null ? request.getDays() : 14;
         loan.extendLoan(days);
         
+        eventPublisher.publishEvent(new LoanExtendedEvent(loan.getLoanId(), loan.getDueDate()));
+        
         return LoanDto.Response.from(loan);
     }
     
@@ -123,20 +388,35 @@ public class LoanService {
         // 기본 14일 연장
         loan.extendLoan(14);
         
+        eventPublisher.publishEvent(new LoanExtendedEvent(loan.getLoanId(), loan.getDueDate()));
+        
         return LoanDto.Response.from(loan);
     }
     
-    // 매일 자정에 실행되는 연체 상태 업데이트 메서드
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
-    public void updateOverdueLoans() {
-        LocalDate today = LocalDate.now();
-        List<Loan> overdueLoans = loanRepository.findByStatusAndDueDateBefore(LoanStatus.LOANED, today);
-        
-        for (Loan loan : overdueLoans) {
-            loan.setStatus(LoanStatus.OVERDUE);
-            loanRepository.save(loan);
+    /**
+     * 대기 중인 예약을 조건부 UPDATE로 완료 처리합니다. 동시에 취소/완료된 예약은 바뀌지 않으므로 예약 수를 줄이지 않아야 합니다.
+     * (사용자 행은 대출 수 변경으로 이미 잠겨 있으므로 잠금 순서는 사용자 → 예약)
+     *
+     * @return 이 요청이 완료 처리했으면 true
+     */
+    private boolean completeReservation(Reservation reservation) {
+        return reservationRepository.updateStatus(reservation.getReservationId(), ReservationStatus.RESERVED,
+            ReservationStatus.COMPLETED, LocalDateTime.now()) == 1;
+    }
+    
+    /**
+     * 반납된 도서의 재고를 1 늘리고, 변경된 재고를 다시 읽으면서 이 도서의 2차 캐시 항목만 무효화합니다.
+     * 도서 행이 없어 1건이 변경되지 않으면 반납 처리까지 롤백합니다.
+     */
+    private void incrementCopiesAvailable(Book book) {
+        if (bookInventoryRepository.incrementCopiesAvailable(book.getId()) != 1) {
+            throw new IllegalStateException("존재하지 않는 도서입니다.");
         }
+        entityManager.refresh(book);
+    }
+    
+    private String loanLimitExceededMessage() {
+        return "최대 대출 가능 권수(" + loanProperties.getMaxBooks() + "권)를 초과했습니다.";
     }
     
     // 도서 반납 시 해당 도서에 대한 예약자 확인
@@ -145,8 +425,7 @@ public class LoanService {
             .ifPresent(reservation -> {
                 // 여기에 알림 로직 구현 (이메일 또는 푸시 알림 등)
                 // 실제 구현은 별도의 NotificationService 등을 통해 처리
-                System.out.println("예약자 " + reservation.getUser().getUsername() + "에게 알림 발송: " 
-                    + book.getTitle() + " 도서가 반납되었습니다.");
+                log.info("예약자 {}에게 알림 발송: {} 도서가 반납되었습니다.", reservation.getUser().getUsername(), book.getTitle());
             });
     }
 } 
\ No newline at end of file
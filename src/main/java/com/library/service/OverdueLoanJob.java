@@ -0,0 +1,159 @@
+package com.library.service;
+
+import com.library.config.LoanProperties;
+import com.library.domain.loan.LoanStatus;
+import com.library.repository.BatchCheckpointRepository;
+import com.library.repository.LoanRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연체 상태 정기 보정 배치 (매일 03시)
+ *
+ * 반납 예정일이 지난 대출은 연체 전환 타이머(LoanDueScheduler)가 바로 연체 상태로 바꾸며,
+ * 이 배치는 타이머가 놓친 대출(다른 인스턴스에서 생성된 대출, 전환에 실패한 대출 등)을 정리합니다.
+ *
+ * 대출 엔티티를 읽지 않고, 연체 대상 대출을 id 순으로 청크(library.loan.overdue-chunk-size)씩 나누어
+ * id 범위마다 조건부 UPDATE 한 번으로 연체 상태로 바꾸고 청크마다 커밋합니다.
+ * 트랜잭션과 행 잠금이 청크 하나 동안만 유지되므로 대출/반납 요청을 오래 막지 않고, 메모리 사용량도 대출 수와 무관합니다.
+ *
+ * 청크를 커밋할 때 마지막으로 처리한 id를 같은 트랜잭션에서 체크포인트로 저장하므로,
+ * 실행 중 애플리케이션이 중단되면 같은 날 다음 기동 시(또는 같은 날 다시 실행할 때) 마지막 체크포인트 다음부터 이어서 처리합니다.
+ * 실행 결과는 actuator의 library.batch.overdue.duration(result 태그), library.batch.overdue.rows,
+ * library.batch.overdue.throughput(마지막 실행의 초당 처리 행 수) 메트릭으로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class OverdueLoanJob {
+
+    private static final String JOB_NAME = "overdue-loans";
+    private static final String DURATION_METRIC = "library.batch.overdue.duration";
+    private static final String ROWS_METRIC = "library.batch.overdue.rows";
+    private static final String THROUGHPUT_METRIC = "library.batch.overdue.throughput";
+
+    private final LoanRepository loanRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler taskScheduler;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    private record ChunkResult(long lastId, int updated) {
+    }
+
+    public OverdueLoanJob(LoanRepository loanRepository, BatchCheckpointRepository checkpointRepository,
+                          TransactionTemplate transactionTemplate, LoanProperties loanProperties,
+                          MeterRegistry meterRegistry, TaskScheduler taskScheduler) {
+        if (loanProperties.getOverdueChunkSize() <= 0) {
+            throw new IllegalArgumentException("연체 처리 청크 크기는 1 이상이어야 합니다: " + loanProperties.getOverdueChunkSize());
+        }
+        this.loanRepository = loanRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.taskScheduler = taskScheduler;
+        this.chunkSize = loanProperties.getOverdueChunkSize();
+
+        Gauge.builder(THROUGHPUT_METRIC, lastRowsPerSecond, AtomicLong::get)
+                .description("Rows per second marked overdue in the last run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오늘 실행하다 중단되었다면(오늘 날짜의 체크포인트가 남아 있으면) 기동 직후 스케줄러 스레드에서 이어서 처리합니다.
+     * 이전 날짜의 체크포인트는 다음 정기 실행이 처음부터 처리하므로 재개하지 않으며, 기동 스레드는 배치를 기다리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIfInterrupted() {
+        Optional<BatchCheckpointRepository.Checkpoint> checkpoint = checkpointRepository.find(JOB_NAME);
+        if (checkpoint.isPresent() && checkpoint.get().runDate().equals(LocalDate.now())) {
+            log.info("중단된 연체 처리 배치를 체크포인트(id {}) 다음부터 재개합니다.", checkpoint.get().lastId());
+            taskScheduler.schedule(this::run, Instant.now());
+        }
+    }
+
+    // 자정 직후 타이머의 연체 전환과 겹치지 않도록 새벽에 실행
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("연체 처리 배치가 이미 실행 중입니다.");
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        // 오늘 실행하다 중단된 경우에만 이어서 처리 (이전 날짜의 체크포인트는 오늘 실행이 모두 포함함)
+        long lastId = checkpointRepository.find(JOB_NAME)
+                .filter(checkpoint -> checkpoint.runDate().equals(today))
+                .map(BatchCheckpointRepository.Checkpoint::lastId)
+                .orElse(0L);
+        if (lastId > 0) {
+            log.info("연체 처리 배치를 체크포인트(id {}) 다음부터 재개합니다.", lastId);
+        }
+
+        long startTime = System.nanoTime();
+        long updated = 0;
+        int chunks = 0;
+        String result = "failed";
+        try {
+            while (true) {
+                long fromId = lastId;
+                ChunkResult chunk = transactionTemplate.execute(status -> processChunk(today, fromId));
+                if (chunk == null) {
+                    break;
+                }
+                lastId = chunk.lastId();
+                updated += chunk.updated();
+                chunks++;
+            }
+            checkpointRepository.delete(JOB_NAME);
+            result = "completed";
+        } finally {
+            long elapsed = System.nanoTime() - startTime;
+            long rowsPerSecond = elapsed > 0 ? updated * TimeUnit.SECONDS.toNanos(1) / elapsed : 0;
+            lastRowsPerSecond.set(rowsPerSecond);
+            meterRegistry.timer(DURATION_METRIC, "result", result).record(elapsed, TimeUnit.NANOSECONDS);
+            meterRegistry.counter(ROWS_METRIC).increment(updated);
+            log.info("연체 처리 배치 {}: {}건, 청크 {}개, {}ms, {}건/초 (마지막 id {})",
+                    result, updated, chunks, TimeUnit.NANOSECONDS.toMillis(elapsed), rowsPerSecond, lastId);
+            running.set(false);
+        }
+    }
+
+    /**
+     * fromId 다음의 연체 대상 chunkSize건이 속한 id 범위를 연체 상태로 바꾸고 체크포인트를 저장합니다.
+     *
+     * @return 처리한 범위의 마지막 id와 변경 행 수, 남은 대상이 없으면 null
+     */
+    private ChunkResult processChunk(LocalDate today, long fromId) {
+        List<Long> ids = loanRepository.findOverdueCandidateIds(LoanStatus.LOANED, today, fromId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        long toId = ids.get(ids.size() - 1);
+        int updated = loanRepository.markOverdueInRange(fromId, toId, LoanStatus.LOANED, LoanStatus.OVERDUE,
+                today, LocalDateTime.now());
+        checkpointRepository.save(JOB_NAME, today, toId);
+        return new ChunkResult(toId, updated);
+    }
+}
@@ -1,5 +1,8 @@
 package com.library.service;
 
+import com.library.concurrent.BookLockManager;
+import com.library.concurrent.SnowflakeIdGenerator;
+import com.library.config.ReservationProperties;
 import com.library.domain.book.Book;
 import com.library.domain.reservation.Reservation;
 import com.library.domain.reservation.ReservationStatus;
@@ -9,10 +12,13 @@ import com.library.exception.BusinessException;
 import com.library.exception.ErrorCode;
 import com.library.repository.BookRepository;
 import com.library.repository.ReservationRepository;
+import com.library.repository.UserCounterRepository;
 import com.library.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,12 +33,25 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final BookLockManager bookLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCounterRepository userCounterRepository;
+    private final ReservationProperties reservationProperties;
 
     private static final int RESERVATION_EXPIRATION_DAYS = 7;
-    private static final int MAX_RESERVATIONS_PER_USER = 3;
 
-    @Transactional
+    /**
+     * 같은 도서의 대출/반납/예약은 도서 잠금(BookLockManager)을 얻은 뒤 한 번에 하나씩 실행합니다.
+     * 대기 중인 요청이 커넥션을 잡지 않도록 트랜잭션은 잠금을 얻은 뒤에 시작합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReservationDto.Response createReservation(ReservationDto.CreateRequest request) {
+        return bookLockManager.execute(request.getBookId(), "createReservation",
+                () -> transactionTemplate.execute(status -> createReservationInTransaction(request)));
+    }
+
+    private ReservationDto.Response createReservationInTransaction(ReservationDto.CreateRequest request) {
         User user = userRepository.findByUserId(request.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -43,20 +62,21 @@ public class ReservationService {
             throw new BusinessException(ErrorCode.BOOK_AVAILABLE_FOR_LOAN);
         }
 
-        long userReservationsCount = reservationRepository.countByUserUserIdAndStatus(user.getUserId(), ReservationStatus.RESERVED);
-        if (userReservationsCount >= MAX_RESERVATIONS_PER_USER) {
-            throw new BusinessException(ErrorCode.MAX_RESERVATIONS_EXCEEDED);
-        }
-
         Optional<Reservation> existingReservation = reservationRepository.findByUserUserIdAndBookBookIdAndStatus(
                 user.getUserId(), book.getBookId(), ReservationStatus.RESERVED);
         if (existingReservation.isPresent()) {
             throw new BusinessException(ErrorCode.USER_ALREADY_RESERVED);
         }
 
+        // 예약 이력을 세지 않고 카운터 컬럼의 조건부 증가 한 번으로 한도(library.reservation.max-books) 확인
+        if (!userCounterRepository.incrementActiveReservations(user.getId(), reservationProperties.getMaxBooks())) {
+            throw new BusinessException(ErrorCode.MAX_RESERVATIONS_EXCEEDED);
+        }
+
         LocalDateTime expirationDate = request.getReservationDate().plusDays(RESERVATION_EXPIRATION_DAYS);
 
         Reservation reservation = Reservation.builder()
+                .reservationId(idGenerator.nextId("r"))
                 .user(user)
                 .book(book)
                 .reservationDate(request.getReservationDate())
@@ -88,7 +108,7 @@ public class ReservationService {
             throw new BusinessException(ErrorCode.INVALID_RESERVATION_STATUS);
         }
 
-        reservation.cancel();
+        changeStatus(reservation, ReservationStatus.CANCELLED);
     }
 
     @Transactional
@@ -104,6 +124,19 @@ public class ReservationService {
             throw new BusinessException(ErrorCode.RESERVATION_EXPIRED);
         }
 
-        reservation.complete();
+        changeStatus(reservation, ReservationStatus.COMPLETED);
+    }
+
+    /**
+     * 대기 중인 예약의 상태를 바꾸고 사용자 예약 수를 줄입니다.
+     * 읽은 상태만 믿지 않고 조건부 UPDATE로 바꾸므로, 같은 예약을 동시에 취소/완료하면 먼저 커밋된 요청만 반영되고 나머지는 실패합니다.
+     * 사용자 행을 먼저 변경하여 대출 처리와 같은 잠금 순서(사용자 → 예약)를 유지하며, 상태를 바꾸지 못하면 롤백되어 예약 수도 되돌아갑니다.
+     */
+    private void changeStatus(Reservation reservation, ReservationStatus status) {
+        userCounterRepository.subtractActiveReservations(reservation.getUser().getId(), 1);
+        if (reservationRepository.updateStatus(reservation.getReservationId(), ReservationStatus.RESERVED, status,
+                LocalDateTime.now()) == 0) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_STATUS);
+        }
     }
 } 
\ No newline at end of file
@@ -1,41 +1,62 @@
 package com.library.service;
 
-import com.library.dto.book.BookDto;
 import com.library.dto.search.SearchDto;
-import com.library.repository.BookRepository;
+import com.library.exception.BusinessException;
+import com.library.exception.ErrorCode;
+import com.library.search.CatalogIndexer;
+import com.library.search.SearchResultCache;
+import com.library.search.SearchStrategy;
+import com.library.search.SuggestionTrie;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SearchService {
 
-    private final BookRepository bookRepository;
+    private final SearchStrategy searchStrategy;
+    private final CatalogIndexer catalogIndexer;
+    private final SearchResultCache searchResultCache;
+    private final SuggestionTrie suggestionTrie;
 
+    /**
+     * 설정된 검색 전략(library.search.strategy)으로 검색합니다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 실제 조회는 각 Repository 호출 단위로 처리합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SearchDto.SearchResponse searchBooks(SearchDto.SearchRequest request) {
-        Page<com.library.domain.book.Book> searchResult = bookRepository.searchBooks(
-                request.getKeyword(),
-                request.getCategory(),
-                request.getAuthor(),
-                PageRequest.of(request.getPage(), request.getSize())
-        );
-
-        List<BookDto.SimpleResponse> books = searchResult.getContent().stream()
-                .map(BookDto.SimpleResponse::from)
-                .collect(Collectors.toList());
-
-        return SearchDto.SearchResponse.builder()
-                .books(books)
-                .totalElements(searchResult.getTotalElements())
-                .totalPages(searchResult.getTotalPages())
-                .hasNext(searchResult.hasNext())
+        validateSort(request);
+        return searchResultCache.get(request, () -> searchStrategy.search(request));
+    }
+
+    /**
+     * 접두어 자동완성 후보를 인메모리 트라이에서 조회합니다. 인덱스 적재 전에는 빈 목록을 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SearchDto.SuggestResponse suggest(String prefix, int size) {
+        int limit = Math.max(1, Math.min(size, SuggestionTrie.MAX_SUGGESTIONS));
+        List<SearchDto.Suggestion> suggestions = catalogIndexer.isReady()
+                ? suggestionTrie.suggest(prefix, limit)
+                : new ArrayList<>();
+
+        return SearchDto.SuggestResponse.builder()
+                .prefix(prefix)
+                .suggestions(suggestions)
                 .build();
     }
-} 
\ No newline at end of file
+
+    private void validateSort(SearchDto.SearchRequest request) {
+        if (!request.isRelevanceSort() && !SearchDto.SearchRequest.SORT_ID.equals(request.getSort())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 정렬 기준입니다: " + request.getSort());
+        }
+        if (request.isRelevanceSort() && request.isCursorMode()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "관련도 정렬은 커서 기반 조회를 지원하지 않습니다.");
+        }
+    }
+}
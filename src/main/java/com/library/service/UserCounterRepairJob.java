@@ -0,0 +1,68 @@
+package com.library.service;
+
+import com.library.repository.UserCounterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 대출/예약 카운터 보정 배치 (매일 04시)
+ *
+ * 카운터는 대출/반납/예약/취소와 같은 트랜잭션에서 변경되지만, DB를 직접 수정하거나 다른 경로로 데이터가 바뀌면 어긋날 수 있으므로
+ * 사용자를 id 순으로 CHUNK_SIZE명씩 나누어 대출/예약 테이블에서 다시 계산하고, 값이 다른 사용자만 고칩니다.
+ * 청크마다 커밋하므로 사용자 행 잠금은 청크 하나 동안만 유지됩니다.
+ * 실행 결과는 actuator의 library.batch.user-counters.duration(result 태그), library.batch.user-counters.repaired 메트릭으로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounterRepairJob {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String DURATION_METRIC = "library.batch.user-counters.duration";
+    private static final String REPAIRED_METRIC = "library.batch.user-counters.repaired";
+
+    private final UserCounterRepository userCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 연체 보정 배치(03시)가 끝난 뒤 실행
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void run() {
+        long startTime = System.nanoTime();
+        long lastId = 0L;
+        long repaired = 0;
+        String result = "failed";
+        try {
+            while (true) {
+                List<Long> ids = userCounterRepository.findUserIdsAfter(lastId, CHUNK_SIZE);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long fromId = lastId;
+                long toId = ids.get(ids.size() - 1);
+                Integer updated = transactionTemplate.execute(status -> userCounterRepository.repairCounters(fromId, toId));
+                repaired += updated != null ? updated : 0;
+                lastId = toId;
+            }
+            result = "completed";
+        } finally {
+            long elapsed = System.nanoTime() - startTime;
+            meterRegistry.timer(DURATION_METRIC, "result", result).record(elapsed, TimeUnit.NANOSECONDS);
+            meterRegistry.counter(REPAIRED_METRIC).increment(repaired);
+            if (repaired > 0) {
+                log.warn("사용자 카운터 보정 배치 {}: 어긋난 사용자 {}명 보정, {}ms (마지막 id {})",
+                        result, repaired, TimeUnit.NANOSECONDS.toMillis(elapsed), lastId);
+            } else {
+                log.info("사용자 카운터 보정 배치 {}: 보정 대상 없음, {}ms (마지막 id {})",
+                        result, TimeUnit.NANOSECONDS.toMillis(elapsed), lastId);
+            }
+        }
+    }
+}
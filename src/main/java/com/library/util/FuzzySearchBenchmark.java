@@ -0,0 +1,132 @@
+package com.library.util;
+
+import com.library.domain.book.BookSnapshot;
+import com.library.search.FuzzyBookIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 오타 허용 검색(FuzzyBookIndex) 지연 시간 측정 프로그램
+ * 가상의 도서 10만 권, 100만 권으로 인덱스를 만들고, 편집 거리 1~2의 오타 검색어로 조회 지연 시간 분포를 출력합니다.
+ * Spring 애플리케이션이나 DB 없이 실행됩니다. (./gradlew runFuzzySearchBenchmark)
+ */
+public class FuzzySearchBenchmark {
+
+    private static final int[] CATALOG_SIZES = { 100_000, 1_000_000 };
+    private static final int VOCABULARY_SIZE = 50_000;
+    private static final int WARMUP_QUERIES = 2_000;
+    private static final int MEASURED_QUERIES = 5_000;
+    private static final String LATIN = "abcdefghijklmnopqrstuvwxyz";
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        String[] vocabulary = createVocabulary(random);
+
+        for (int catalogSize : CATALOG_SIZES) {
+            System.out.println("\n==== 도서 " + catalogSize + "권 ====");
+            FuzzyBookIndex index = new FuzzyBookIndex();
+
+            // 실제 도서 제목에 오타를 낸 검색어를 만들기 위해 일부 제목을 표본으로 보관
+            String[] sampledTitles = new String[1_000];
+            long buildStart = System.nanoTime();
+            for (int i = 1; i <= catalogSize; i++) {
+                BookSnapshot book = createBook(i, vocabulary, random);
+                index.put(book);
+                if (i % (catalogSize / sampledTitles.length) == 0) {
+                    sampledTitles[i / (catalogSize / sampledTitles.length) - 1] = book.title();
+                }
+            }
+            System.out.printf("색인 시간: %.1f초, 사전 크기: %d 단어%n",
+                    (System.nanoTime() - buildStart) / 1e9, index.vocabularySize());
+
+            for (int i = 0; i < WARMUP_QUERIES; i++) {
+                index.search(createQuery(sampledTitles, random), null, null);
+            }
+
+            long[] latencies = new long[MEASURED_QUERIES];
+            long totalHits = 0;
+            int answered = 0;
+            for (int i = 0; i < MEASURED_QUERIES; i++) {
+                String query = createQuery(sampledTitles, random);
+                long start = System.nanoTime();
+                int hits = index.search(query, null, null).length;
+                latencies[i] = System.nanoTime() - start;
+                totalHits += hits;
+                answered += hits > 0 ? 1 : 0;
+            }
+
+            printLatencies(latencies);
+            System.out.printf("결과가 있는 검색 비율: %.1f%%, 평균 결과 수: %.2f%n",
+                    answered * 100.0 / MEASURED_QUERIES, (double) totalHits / MEASURED_QUERIES);
+        }
+    }
+
+    /**
+     * 영문 단어와 한글 단어가 섞인 가상의 단어 사전 생성
+     */
+    private static String[] createVocabulary(Random random) {
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < vocabulary.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(7);
+            boolean hangul = random.nextInt(3) == 0;
+            for (int j = 0; j < (hangul ? Math.max(2, length / 2) : length); j++) {
+                word.append(hangul
+                        ? (char) (0xAC00 + random.nextInt(11172))
+                        : LATIN.charAt(random.nextInt(LATIN.length())));
+            }
+            vocabulary[i] = word.toString();
+        }
+        return vocabulary;
+    }
+
+    private static BookSnapshot createBook(long id, String[] vocabulary, Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            title.append(i > 0 ? " " : "").append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        String author = vocabulary[random.nextInt(vocabulary.length)] + " " + vocabulary[random.nextInt(vocabulary.length)];
+
+        return new BookSnapshot(id, "b" + id, title.toString(), author, "isbn" + id, null,
+                "category" + random.nextInt(20), 1, null, null, null);
+    }
+
+    // 표본 제목의 앞 두 단어에 각각 오타를 낸 검색어
+    private static String createQuery(String[] sampledTitles, Random random) {
+        String[] words = sampledTitles[random.nextInt(sampledTitles.length)].split(" ");
+        return misspell(words[0], random) + " " + misspell(words[1], random);
+    }
+
+    // 임의 위치의 문자 하나에 오타를 냄 (영문: 치환/삭제/삽입, 한글: 받침 변경)
+    // 두 글자 이하 검색어는 오타를 허용하지 않으므로 세 글자 단어는 삭제하지 않음
+    private static String misspell(String word, Random random) {
+        StringBuilder builder = new StringBuilder(word);
+        int position = random.nextInt(word.length());
+        char c = word.charAt(position);
+        if (c >= 0xAC00 && c <= 0xD7A3) {
+            int jongseong = (c - 0xAC00) % 28;
+            builder.setCharAt(position, (char) (c - jongseong + (jongseong + 1 + random.nextInt(27)) % 28));
+            return builder.toString();
+        }
+
+        char replacement = LATIN.charAt(random.nextInt(LATIN.length()));
+        switch (random.nextInt(word.length() > 3 ? 3 : 2)) {
+            case 0 -> builder.setCharAt(position, replacement);
+            case 1 -> builder.insert(position, replacement);
+            default -> builder.deleteCharAt(position);
+        }
+        return builder.toString();
+    }
+
+    private static void printLatencies(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("지연 시간(ms) p50: %.3f, p95: %.3f, p99: %.3f, max: %.3f%n",
+                sorted[sorted.length / 2] / 1e6,
+                sorted[(int) (sorted.length * 0.95)] / 1e6,
+                sorted[(int) (sorted.length * 0.99)] / 1e6,
+                sorted[sorted.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,78 @@
+package com.library.util;
+
+import com.library.concurrent.SnowflakeIdGenerator;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * ID 생성기(SnowflakeIdGenerator) 처리량 및 중복 검사 프로그램
+ * 스레드 수를 늘려 가며 동시에 ID를 발급하고, 초당 발급 수와 발급량이 한 밀리초 4096개를 넘어 시계보다 앞서 나간 정도를 출력합니다.
+ * 중복 없음과 발급 순서는 SnowflakeIdGeneratorTest에서 확인합니다.
+ * Spring 애플리케이션이나 DB 없이 실행됩니다. (./gradlew runIdGeneratorBenchmark)
+ */
+public class IdGeneratorBenchmark {
+
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16 };
+    private static final int IDS_PER_THREAD = 1_000_000;
+    private static final int WARMUP_IDS = 2_000_000;
+    private static final long EPOCH = 1735689600000L;
+    private static final int TIMESTAMP_SHIFT = 22;
+
+    public static void main(String[] args) throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+        for (int i = 0; i < WARMUP_IDS; i++) {
+            generator.nextId();
+        }
+
+        for (int threadCount : THREAD_COUNTS) {
+            long[][] ids = new long[threadCount][IDS_PER_THREAD];
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            for (int t = 0; t < threadCount; t++) {
+                long[] target = ids[t];
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < target.length; i++) {
+                            target[i] = generator.nextId();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                thread.start();
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+
+            long total = (long) threadCount * IDS_PER_THREAD;
+            long maxId = 0;
+            for (long[] threadIds : ids) {
+                maxId = Math.max(maxId, threadIds[threadIds.length - 1]);
+            }
+            long aheadMillis = (maxId >>> TIMESTAMP_SHIFT) + EPOCH - System.currentTimeMillis();
+
+            System.out.printf("스레드 %2d개: %,d개 발급, %.1f만 개/초, 시계보다 앞선 시간 %dms%n",
+                    threadCount, total, total / (elapsed / 1e9) / 10_000, Math.max(0, aheadMillis));
+
+            // 앞서 나간 시간만큼 기다려 다음 측정이 이전 측정의 영향을 받지 않도록 함
+            if (aheadMillis > 0) {
+                Thread.sleep(aheadMillis);
+            }
+        }
+
+        long begin = System.nanoTime();
+        int length = 0;
+        for (int i = 0; i < IDS_PER_THREAD; i++) {
+            length += generator.nextId("b").length();
+        }
+        System.out.printf("문자열 ID: %.1f ns/개 (길이 %d)%n",
+                (System.nanoTime() - begin) / (double) IDS_PER_THREAD, length / IDS_PER_THREAD);
+    }
+}
@@ -0,0 +1,172 @@
+package com.library.util;
+
+import com.library.domain.book.Book;
+import com.library.domain.book.BookSummary;
+import com.library.dto.book.BookDto;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 조회 방식별 행당 전송량/할당량 비교 프로그램
+ * 같은 도서 목록을 (1) Book 엔티티로 조회한 뒤 응답으로 변환하는 방식과 (2) BookSummary 프로젝션으로 조회하는 방식으로 읽어
+ * 행당 컬럼 데이터 크기, 행당 힙 할당량, 조회 시간을 출력합니다.
+ * 엔티티 방식은 영속성 컨텍스트 등록과 변경 감지용 스냅샷 비용까지 포함됩니다.
+ * H2 인메모리 DB와 Hibernate만으로 실행되며 Spring 애플리케이션은 필요 없습니다. (./gradlew runProjectionBenchmark)
+ */
+public class ProjectionBenchmark {
+
+    private static final int BOOKS = 20_000;
+    private static final int ROWS_PER_QUERY = 1_000;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 100;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        try (SessionFactory sessionFactory = new Configuration()
+                .addAnnotatedClass(Book.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                // 엔티티 방식의 비용만 측정하도록 2차 캐시는 사용하지 않음
+                .setProperty("hibernate.cache.use_second_level_cache", "false")
+                .setProperty("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .buildSessionFactory()) {
+
+            long[] columnBytes = insertBooks(sessionFactory);
+            System.out.printf("행당 컬럼 데이터: 전체 컬럼 %d bytes, 목록 컬럼 %d bytes (%.0f%% 감소)%n",
+                    columnBytes[0] / BOOKS, columnBytes[1] / BOOKS,
+                    100.0 * (columnBytes[0] - columnBytes[1]) / columnBytes[0]);
+
+            Measurement entity = measure("엔티티 조회", fromId -> {
+                try (Session session = sessionFactory.openSession()) {
+                    List<Book> books = session.createSelectionQuery(
+                                    "FROM Book b WHERE b.id > :fromId ORDER BY b.id", Book.class)
+                            .setParameter("fromId", fromId)
+                            .setMaxResults(ROWS_PER_QUERY)
+                            .getResultList();
+                    return books.stream()
+                            .map(BookDto.SimpleResponse::from)
+                            .collect(Collectors.toList())
+                            .size();
+                }
+            });
+
+            Measurement projection = measure("프로젝션 조회", fromId -> {
+                try (Session session = sessionFactory.openSession()) {
+                    List<BookSummary> books = session.createSelectionQuery(
+                                    BookSummary.SELECT + "FROM Book b WHERE b.id > :fromId ORDER BY b.id", BookSummary.class)
+                            .setParameter("fromId", fromId)
+                            .setMaxResults(ROWS_PER_QUERY)
+                            .getResultList();
+                    return books.stream()
+                            .map(BookDto.SimpleResponse::from)
+                            .collect(Collectors.toList())
+                            .size();
+                }
+            });
+
+            System.out.printf("행당 할당량 감소: %.0f%%, 조회 시간(p50) 감소: %.0f%%%n",
+                    100.0 * (entity.bytesPerRow - projection.bytesPerRow) / entity.bytesPerRow,
+                    100.0 * (entity.p50Millis - projection.p50Millis) / entity.p50Millis);
+        }
+    }
+
+    private record Measurement(double bytesPerRow, double p50Millis) {
+    }
+
+    /**
+     * 한 번에 ROWS_PER_QUERY행씩 조회하여 응답 객체로 변환하는 작업의 행당 할당량과 지연 시간을 측정합니다.
+     *
+     * @param query 시작 id를 받아 조회한 행 수를 반환하는 작업
+     */
+    private static Measurement measure(String name, LongFunction<Integer> query) {
+        Random random = new Random(7);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.apply(random.nextInt(BOOKS - ROWS_PER_QUERY));
+        }
+
+        long[] latencies = new long[MEASURED_ROUNDS];
+        long allocated = 0;
+        long rows = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long fromId = random.nextInt(BOOKS - ROWS_PER_QUERY);
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            rows += query.apply(fromId);
+            latencies[i] = System.nanoTime() - start;
+            allocated += THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        Arrays.sort(latencies);
+        double bytesPerRow = (double) allocated / rows;
+        double p50Millis = latencies[latencies.length / 2] / 1e6;
+        System.out.printf("%s: 행당 할당 %.0f bytes, %d행 조회 p50 %.2fms, p99 %.2fms%n",
+                name, bytesPerRow, ROWS_PER_QUERY, p50Millis, latencies[(int) (latencies.length * 0.99)] / 1e6);
+        return new Measurement(bytesPerRow, p50Millis);
+    }
+
+    /**
+     * 설명 길이가 다양한 가상의 도서를 등록하고, 전체 컬럼과 목록 컬럼의 데이터 크기 합계를 반환합니다.
+     *
+     * @return [전체 컬럼 bytes, 목록 컬럼 bytes]
+     */
+    private static long[] insertBooks(SessionFactory sessionFactory) {
+        Random random = new Random(42);
+        long allColumns = 0;
+        long summaryColumns = 0;
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 1; i <= BOOKS; i++) {
+                Book book = Book.createBook(
+                        String.format("b%019d", i),
+                        hangul(random, 5 + random.nextInt(20)),
+                        hangul(random, 2 + random.nextInt(6)),
+                        String.format("978%010d", i),
+                        LocalDate.of(1950 + random.nextInt(75), 1 + random.nextInt(12), 1),
+                        "category" + random.nextInt(20),
+                        random.nextInt(5),
+                        hangul(random, 200 + random.nextInt(800)));
+                book.setCreatedAt(LocalDateTime.now());
+                session.insert(book);
+
+                // 고정 길이 컬럼: id 8, published_date 4, copies_available 4, created_at 8, updated_at 8
+                long summary = 8 + 4 + 4 + utf8(book.getBookId()) + utf8(book.getTitle()) + utf8(book.getAuthor())
+                        + utf8(book.getCategory()) + utf8(book.getIsbn());
+                summaryColumns += summary;
+                allColumns += summary + utf8(book.getDescription()) + 8 + 8;
+            }
+            transaction.commit();
+        }
+        return new long[] { allColumns, summaryColumns };
+    }
+
+    private static String hangul(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(i > 0 && random.nextInt(5) == 0 ? ' ' : (char) (0xAC00 + random.nextInt(11172)));
+        }
+        return text.toString();
+    }
+
+    private static int utf8(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
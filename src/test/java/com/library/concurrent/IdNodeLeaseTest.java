@@ -0,0 +1,96 @@
+package com.library.concurrent;
+
+import com.library.config.IdProperties;
+import com.library.exception.BusinessException;
+import com.library.repository.IdNodeLeaseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ID 생성기 노드 번호 임대(IdNodeLease)가 실행 중인 인스턴스끼리 같은 번호를 주지 않는지 H2에서 확인합니다.
+ * 자동 임대는 호스트 이름 해시 위치부터 차례로 번호를 찾으므로, 번호를 지정하는 테스트는 그 반대쪽 번호를 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdNodeLeaseTest {
+
+    @Autowired
+    private IdNodeLeaseRepository idNodeLeaseRepository;
+
+    @Autowired
+    private IdNodeLease applicationLease;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("번호를 지정하지 않은 인스턴스들은 모두 다른 노드 번호를 임대한다")
+    void automaticLeasesNeverShareNodeId() {
+        Set<Integer> nodeIds = new HashSet<>();
+        nodeIds.add(applicationLease.nodeId());
+        for (int i = 0; i < 20; i++) {
+            IdNodeLease lease = new IdNodeLease(properties(-1, 60, 10_000), idNodeLeaseRepository);
+            assertThat(nodeIds.add(lease.nodeId())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 사용 중인 번호를 지정하면 임대가 만료될 때까지 얻지 못해 기동에 실패한다")
+    void configuredNodeIdInUseFailsStartup() {
+        // 계속 갱신 중인 다른 인스턴스 (대기하는 동안 만료되지 않도록 갱신 시각을 앞으로 지정)
+        idNodeLeaseRepository.tryAcquire(configuredNodeId(0), "other-instance",
+                LocalDateTime.now(ZoneOffset.UTC).plusHours(1), LocalDateTime.now(ZoneOffset.UTC));
+
+        // 대기 시간을 줄이기 위해 유지 시간을 짧게 지정 (유지 시간 + 갱신 주기만큼 기다린 뒤 실패)
+        assertThatThrownBy(() -> new IdNodeLease(properties(configuredNodeId(0), 1, 500), idNodeLeaseRepository))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("반납한 번호는 다른 인스턴스가 바로 임대할 수 있다")
+    void releasedNodeIdCanBeLeasedAgain() {
+        IdNodeLease first = new IdNodeLease(properties(configuredNodeId(1), 60, 10_000), idNodeLeaseRepository);
+        first.destroy();
+
+        IdNodeLease second = new IdNodeLease(properties(configuredNodeId(1), 60, 10_000), idNodeLeaseRepository);
+        assertThat(second.nodeId()).isEqualTo(configuredNodeId(1));
+    }
+
+    @Test
+    @DisplayName("임대를 다른 인스턴스가 가져가면 ID 발급을 멈춘다")
+    void generatorStopsWhenLeaseIsTakenOver() {
+        IdNodeLease lease = new IdNodeLease(properties(configuredNodeId(2), 60, 10_000), idNodeLeaseRepository);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(lease);
+        assertThat(generator.nextId()).isPositive();
+
+        // 갱신이 멈춘 사이 만료되어 다른 인스턴스가 가져간 상황
+        jdbcTemplate.update("UPDATE id_node_leases SET owner = 'other-instance' WHERE node_id = ?", lease.nodeId());
+        lease.renew();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(BusinessException.class);
+    }
+
+    private int configuredNodeId(int offset) {
+        return (applicationLease.nodeId() + 512 + offset) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+
+    private static IdProperties properties(int nodeId, int leaseSeconds, long leaseRenewMillis) {
+        IdProperties idProperties = new IdProperties();
+        idProperties.setNodeId(nodeId);
+        idProperties.setLeaseSeconds(leaseSeconds);
+        idProperties.setLeaseRenewMillis(leaseRenewMillis);
+        return idProperties;
+    }
+}
@@ -0,0 +1,97 @@
+package com.library.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ID 생성기(SnowflakeIdGenerator)의 중복 없음과 발급 순서를 확인합니다.
+ * 처리량 측정은 IdGeneratorBenchmark(./gradlew runIdGeneratorBenchmark)에서 합니다.
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID가 겹치지 않고 스레드마다 항상 증가한다")
+    void concurrentIdsAreUniqueAndIncreasingPerThread() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        long[][] ids = new long[THREADS][IDS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            long[] target = ids[t];
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < target.length; i++) {
+                        target[i] = generator.nextId();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        int unordered = 0;
+        for (long[] threadIds : ids) {
+            for (int i = 1; i < threadIds.length; i++) {
+                if (threadIds[i] <= threadIds[i - 1]) {
+                    unordered++;
+                }
+            }
+        }
+        long[] all = Arrays.stream(ids).flatMapToLong(Arrays::stream).sorted().toArray();
+        int duplicates = 0;
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                duplicates++;
+            }
+        }
+        assertThat(unordered).isZero();
+        assertThat(duplicates).isZero();
+    }
+
+    @Test
+    @DisplayName("문자열 ID는 길이가 고정되어 문자열 순서가 발급 순서와 같다")
+    void stringIdsSortInIssueOrder() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        String previous = generator.nextId("b");
+        for (int i = 0; i < 10_000; i++) {
+            String id = generator.nextId("b");
+            assertThat(id).hasSize(20).startsWith("b");
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 번호가 다른 생성기끼리는 ID가 겹치지 않는다")
+    void differentNodesNeverCollide() {
+        SnowflakeIdGenerator first = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator second = new SnowflakeIdGenerator(2);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            assertThat(ids.add(first.nextId())).isTrue();
+            assertThat(ids.add(second.nextId())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 번호가 1023보다 크면 생성할 수 없다")
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
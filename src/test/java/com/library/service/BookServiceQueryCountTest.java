@@ -0,0 +1,112 @@
+package com.library.service;
+
+import com.library.domain.book.Book;
+import com.library.domain.reservation.Reservation;
+import com.library.domain.user.User;
+import com.library.dto.book.BookReservationDto;
+import com.library.repository.BookRepository;
+import com.library.repository.ReservationRepository;
+import com.library.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 가능 도서 조회(BookService.getBooksAvailableForReservation)가 재고 없는 도서 수와 관계없이
+ * 같은 수의 SQL로 끝나는지 Hibernate 통계(hibernate.generate_statistics)로 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookServiceQueryCountTest {
+
+    private static final int MANY_BOOKS = 50;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("재고 없는 도서가 1권이든 50권이든 예약 가능 도서 조회의 SQL 실행 수는 같다")
+    void statementCountDoesNotGrowWithOutOfStockBooks() {
+        User me = saveUser("u-queue-me");
+        User other = saveUser("u-queue-other");
+        saveOutOfStockBook(0, me, other);
+
+        long single = countStatements(me.getUserId(), 1);
+
+        for (int i = 1; i < MANY_BOOKS; i++) {
+            saveOutOfStockBook(i, me, other);
+        }
+        long many = countStatements(me.getUserId(), MANY_BOOKS);
+
+        assertThat(single).isPositive();
+        assertThat(many).isEqualTo(single);
+    }
+
+    private long countStatements(String userId, int expectedBooks) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookReservationDto> books = bookService.getBooksAvailableForReservation(userId);
+
+        long statements = statistics.getPrepareStatementCount();
+        List<BookReservationDto> queued = books.stream()
+                .filter(book -> book.getBookId().startsWith("b-queue-"))
+                .toList();
+        assertThat(queued).hasSize(expectedBooks);
+        assertThat(queued).allSatisfy(book -> {
+            assertThat(book.getCurrentReservations()).isEqualTo(2);
+            assertThat(book.getUserReservationOrder()).isEqualTo(2);
+        });
+        return statements;
+    }
+
+    private User saveUser(String userId) {
+        User user = User.createUser(userId, userId + "@example.com", "password", userId);
+        user.setUserId(userId);
+        return userRepository.save(user);
+    }
+
+    // 다른 사용자가 먼저, 조회하는 사용자가 두 번째로 예약한 재고 없는 도서
+    private void saveOutOfStockBook(int index, User me, User other) {
+        Book book = bookRepository.save(Book.createBook("b-queue-" + index, "예약 대기 도서 " + index, "저자",
+                "979-11-0000-1" + String.format("%03d", index), LocalDate.of(2020, 1, 1), "소설", 0, "설명"));
+        LocalDateTime now = LocalDateTime.now();
+        reservationRepository.save(Reservation.builder()
+                .reservationId("r-queue-other-" + index)
+                .user(other)
+                .book(book)
+                .reservationDate(now.minusHours(2))
+                .expirationDate(now.plusDays(3))
+                .build());
+        reservationRepository.save(Reservation.builder()
+                .reservationId("r-queue-me-" + index)
+                .user(me)
+                .book(book)
+                .reservationDate(now.minusHours(1))
+                .expirationDate(now.plusDays(3))
+                .build());
+    }
+}
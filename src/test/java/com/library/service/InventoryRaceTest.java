@@ -0,0 +1,246 @@
+package com.library.service;
+
+import com.library.concurrent.BookLockManager;
+import com.library.concurrent.SnowflakeIdGenerator;
+import com.library.config.LoanProperties;
+import com.library.config.LockProperties;
+import com.library.domain.book.Book;
+import com.library.domain.user.User;
+import com.library.dto.loan.LoanDto;
+import com.library.repository.BookInventoryRepository;
+import com.library.repository.BookRepository;
+import com.library.repository.LoanBatchRepository;
+import com.library.repository.LoanRepository;
+import com.library.repository.ReservationRepository;
+import com.library.repository.UserCounterRepository;
+import com.library.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 잠금(BookLockManager) 없이 재고 변경이 동시에 실행될 때의 정합성을 확인합니다.
+ * 여러 인스턴스가 같은 도서를 처리하는 상황처럼, 잠금이 직렬화하지 않아도 DB의 조건부 UPDATE만으로
+ * 초과 대출이 없고 같은 대출의 중복 반납이 재고를 한 번만 늘리는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryRaceTest {
+
+    private static final int COPIES = 5;
+    private static final int THREADS = 40;
+    private static final int DUPLICATE_RETURNS = 8;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookInventoryRepository bookInventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LoanBatchRepository loanBatchRepository;
+
+    @Autowired
+    private UserCounterRepository userCounterRepository;
+
+    @Autowired
+    private LoanProperties loanProperties;
+
+    @Autowired
+    private LockProperties lockProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LoanService loanService;
+
+    /**
+     * 인스턴스 안에서도 요청을 직렬화하지 않도록, 잠금 없이 바로 실행하는 도서 잠금으로 LoanService를 만듭니다.
+     * (대출/반납 메서드는 트랜잭션을 TransactionTemplate으로 직접 시작하므로 프록시 없이 호출해도 됩니다)
+     */
+    @BeforeEach
+    void setUp() {
+        BookLockManager noBookLock = new BookLockManager(lockProperties, meterRegistry) {
+            @Override
+            public <T> T execute(String bookId, String operation, Supplier<T> action) {
+                return action.get();
+            }
+
+            @Override
+            public <T> T executeAll(Collection<String> bookIds, String operation, Supplier<T> action) {
+                return action.get();
+            }
+        };
+        loanService = new LoanService(loanRepository, userRepository, bookRepository, bookInventoryRepository,
+                reservationRepository, eventPublisher, idGenerator, entityManager, noBookLock, transactionTemplate,
+                loanBatchRepository, userCounterRepository, loanProperties);
+    }
+
+    @Test
+    @DisplayName("잠금 없이 동시에 재고를 차감해도 재고 수만큼만 성공하고 재고는 0이 된다")
+    void concurrentDecrementsNeverOversell() throws Exception {
+        Book book = saveBook("b-race-decrement", COPIES);
+
+        int succeeded = runConcurrently(THREADS, () -> {
+            Integer updated = transactionTemplate.execute(status -> bookInventoryRepository.decrementCopiesAvailable(book.getId()));
+            return updated != null && updated == 1;
+        });
+
+        assertThat(succeeded).isEqualTo(COPIES);
+        assertThat(copiesAvailable(book)).isZero();
+    }
+
+    @Test
+    @DisplayName("잠금 없이 같은 대출을 동시에 반납해도 한 번만 성공하고 재고는 1만 늘어난다")
+    void concurrentDuplicateReturnsIncrementOnce() throws Exception {
+        Book book = saveBook("b-race-return", COPIES);
+        User user = saveUser("u-race-return");
+        String loanId = loanService.createLoan(createRequest(user, book)).getLoanId();
+        assertThat(copiesAvailable(book)).isEqualTo(COPIES - 1);
+
+        LoanDto.ReturnRequest request = new LoanDto.ReturnRequest();
+        request.setReturnDate(LocalDate.now());
+        int succeeded = runConcurrently(DUPLICATE_RETURNS, () -> {
+            loanService.returnBook(loanId, request);
+            return true;
+        });
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(copiesAvailable(book)).isEqualTo(COPIES);
+        assertThat(activeLoanCount(user)).isZero();
+    }
+
+    @Test
+    @DisplayName("잠금 없이 같은 대출을 여러 권 반납으로 동시에 반납해도 대출마다 재고는 1만 늘어난다")
+    void concurrentDuplicateBatchReturnsIncrementOnce() throws Exception {
+        Book first = saveBook("b-race-batch-1", COPIES);
+        Book second = saveBook("b-race-batch-2", COPIES);
+        User user = saveUser("u-race-batch");
+        List<String> loanIds = List.of(
+                loanService.createLoan(createRequest(user, first)).getLoanId(),
+                loanService.createLoan(createRequest(user, second)).getLoanId());
+
+        LoanDto.BatchReturnRequest request = new LoanDto.BatchReturnRequest();
+        request.setUserId(user.getUserId());
+        request.setLoanIds(loanIds);
+        List<LoanDto.BatchItemResult> results = new ArrayList<>();
+        runConcurrently(DUPLICATE_RETURNS, () -> {
+            LoanDto.BatchResponse response = loanService.returnBooks(request);
+            synchronized (results) {
+                results.addAll(response.getResults());
+            }
+            return true;
+        });
+
+        assertThat(results).filteredOn(LoanDto.BatchItemResult::isSuccess).hasSize(loanIds.size());
+        assertThat(copiesAvailable(first)).isEqualTo(COPIES);
+        assertThat(copiesAvailable(second)).isEqualTo(COPIES);
+        assertThat(activeLoanCount(user)).isZero();
+    }
+
+    /**
+     * 모든 스레드가 준비된 뒤 동시에 action을 실행하고, true를 반환한 횟수를 셉니다. (예외는 실패로 처리)
+     */
+    private static int runConcurrently(int threads, Callable<Boolean> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return action.call();
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Book saveBook(String bookId, int copies) {
+        return bookRepository.save(Book.createBook(bookId, "동시 변경 도서 " + bookId, "저자", "isbn-" + bookId,
+                LocalDate.of(2020, 1, 1), "소설", copies, null));
+    }
+
+    private User saveUser(String userId) {
+        User user = User.createUser(userId, userId + "@example.com", "password", userId);
+        user.setUserId(userId);
+        return userRepository.save(user);
+    }
+
+    private static LoanDto.CreateRequest createRequest(User user, Book book) {
+        LoanDto.CreateRequest request = new LoanDto.CreateRequest();
+        request.setUserId(user.getUserId());
+        request.setBookId(book.getBookId());
+        request.setLoanDate(LocalDate.now());
+        request.setDueDate(LocalDate.now().plusDays(14));
+        return request;
+    }
+
+    private int copiesAvailable(Book book) {
+        return jdbcTemplate.queryForObject("SELECT copies_available FROM books WHERE id = ?", Integer.class, book.getId());
+    }
+
+    private int activeLoanCount(User user) {
+        return jdbcTemplate.queryForObject("SELECT active_loan_count FROM users WHERE id = ?", Integer.class, user.getId());
+    }
+}
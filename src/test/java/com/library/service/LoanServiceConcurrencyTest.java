@@ -0,0 +1,103 @@
+package com.library.service;
+
+import com.library.domain.book.Book;
+import com.library.domain.user.User;
+import com.library.dto.loan.LoanDto;
+import com.library.repository.BookRepository;
+import com.library.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 도서를 여러 사용자가 동시에 대출할 때 재고보다 많이 대출되지 않는지 확인합니다.
+ * 도서 잠금(BookLockManager), 조건부 재고 차감, 대출 수 카운터를 모두 거치는 LoanService.createLoan을 H2에서 실행합니다.
+ * 도서 잠금이 인스턴스 안의 요청을 직렬화하므로, 잠금 없이 동시에 실행되는 경우는 InventoryRaceTest에서 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanServiceConcurrencyTest {
+
+    private static final int COPIES = 5;
+    private static final int REQUESTERS = 40;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("재고보다 많은 사용자가 동시에 대출하면 재고 수만큼만 성공하고 재고는 0이 된다")
+    void concurrentLoansNeverExceedCopies() throws Exception {
+        Book book = bookRepository.save(Book.createBook("b-stress", "동시 대출 도서", "저자", "979-11-0000-000-1",
+                LocalDate.of(2020, 1, 1), "소설", COPIES, null));
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < REQUESTERS; i++) {
+            User user = User.createUser("stress" + i, "stress" + i + "@example.com", "password", "사용자" + i);
+            user.setUserId("u-stress-" + i);
+            userIds.add(userRepository.save(user).getUserId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (String userId : userIds) {
+                results.add(executor.submit(() -> {
+                    LoanDto.CreateRequest request = new LoanDto.CreateRequest();
+                    request.setUserId(userId);
+                    request.setBookId(book.getBookId());
+                    request.setLoanDate(LocalDate.now());
+                    request.setDueDate(LocalDate.now().plusDays(14));
+                    start.await();
+                    try {
+                        loanService.createLoan(request);
+                        return true;
+                    } catch (IllegalStateException e) {
+                        // 재고 없음
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(COPIES);
+            assertThat(jdbcTemplate.queryForObject("SELECT copies_available FROM books WHERE id = ?", Integer.class, book.getId()))
+                    .isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loans WHERE book_id = ?", Integer.class, book.getId()))
+                    .isEqualTo(COPIES);
+            assertThat(jdbcTemplate.queryForObject("SELECT SUM(active_loan_count) FROM users WHERE user_id LIKE 'u-stress-%'", Integer.class))
+                    .isEqualTo(COPIES);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
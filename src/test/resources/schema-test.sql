@@ -0,0 +1,16 @@
+-- 엔티티에 매핑하지 않는 컬럼/테이블 (docker/mysql/init/01-schema.sql과 같은 정의)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS active_loan_count INT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS active_reservation_count INT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS batch_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_date DATE NOT NULL,
+    last_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS id_node_leases (
+    node_id INT PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    renewed_at TIMESTAMP(3) NOT NULL
+);